@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jaxrs.examples.client.encoding;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Benchmark of the CPU time spent on compression versus the bandwidth saved, as a guide for configuring the
+ * {@link jakarta.ws.rs.client.ContentEncodingFeature}.
+ * <p>
+ * For each compression level the benchmark compresses and decompresses a JSON-like payload repeatedly and prints the
+ * compression ratio, the CPU time per MiB of payload and the bytes saved per millisecond of CPU time. Each measurement is
+ * done twice: with a fresh {@link Deflater} and {@link Inflater} per operation, like a naive interceptor does, and with
+ * a single reused instance, like the pooled codecs of the feature. The difference between the two shows the cost of
+ * setting up the native codec state per request, which dominates for small entities.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class CompressionBenchmark {
+
+    private static final int ITERATIONS = 2000;
+    private static final int[] LEVELS = {Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION};
+    private static final double MIB = 1 << 20;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final String USAGE = "usage: CompressionBenchmark [payload size in bytes, at least 2]";
+
+    private CompressionBenchmark() {
+    }
+
+    /**
+     * Runs this benchmark.
+     *
+     * @param args optional payload size in bytes, at least {@code 2}, defaults to {@code 16384}.
+     * @throws DataFormatException when decompression fails
+     */
+    public static void main(final String[] args) throws DataFormatException {
+        final int size;
+        try {
+            size = args.length > 0 ? Integer.parseInt(args[0]) : 16384;
+        } catch (final NumberFormatException e) {
+            System.err.println(USAGE);
+            return;
+        }
+        if (size < 2) {
+            System.err.println(USAGE);
+            return;
+        }
+        final byte[] payload = payload(size);
+        final byte[] compressed = new byte[payload.length * 2 + 64];
+        final byte[] decompressed = new byte[payload.length];
+
+        System.out.printf("payload %d bytes, %d iterations%n", payload.length, ITERATIONS);
+        System.out.printf("%-7s %-6s %7s %14s %14s %16s%n", "level", "codecs", "ratio", "deflate ms/MiB", "inflate ms/MiB",
+                "saved bytes/ms");
+        for (final int level : LEVELS) {
+            for (final boolean pooled : new boolean[] {false, true}) {
+                final Deflater pooledDeflater = new Deflater(level);
+                final Inflater pooledInflater = new Inflater();
+                int compressedLength = 0;
+
+                long start = THREADS.getCurrentThreadCpuTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    final Deflater deflater = pooled ? pooledDeflater : new Deflater(level);
+                    deflater.setInput(payload);
+                    deflater.finish();
+                    compressedLength = deflater.deflate(compressed);
+                    if (pooled) {
+                        deflater.reset();
+                    } else {
+                        deflater.end();
+                    }
+                }
+                final long deflateNanos = THREADS.getCurrentThreadCpuTime() - start;
+
+                start = THREADS.getCurrentThreadCpuTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    final Inflater inflater = pooled ? pooledInflater : new Inflater();
+                    inflater.setInput(compressed, 0, compressedLength);
+                    inflater.inflate(decompressed);
+                    if (pooled) {
+                        inflater.reset();
+                    } else {
+                        inflater.end();
+                    }
+                }
+                final long inflateNanos = THREADS.getCurrentThreadCpuTime() - start;
+
+                pooledDeflater.end();
+                pooledInflater.end();
+
+                final double mib = ITERATIONS * payload.length / MIB;
+                final double saved = (double) ITERATIONS * (payload.length - compressedLength);
+                System.out.printf("%-7d %-6s %7.2f %14.2f %14.2f %16.0f%n", level, pooled ? "pooled" : "fresh",
+                        (double) payload.length / compressedLength, deflateNanos / NANOS_PER_MILLI / mib,
+                        inflateNanos / NANOS_PER_MILLI / mib, saved / ((deflateNanos + inflateNanos) / NANOS_PER_MILLI));
+            }
+        }
+    }
+
+    private static byte[] payload(final int size) {
+        final StringBuilder json = new StringBuilder(size + 128).append('[');
+        for (int i = 0; json.length() < size; i++) {
+            json.append("{\"id\":").append(i).append(",\"name\":\"item-").append(Integer.toHexString(i * 31))
+                    .append("\",\"price\":").append(i % 997).append('.').append(i % 100)
+                    .append(",\"tags\":[\"a\",\"b\"]},");
+        }
+        json.setLength(size - 1);
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,6 +11,7 @@
 package jaxrs.examples.client.encoding;
 
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ContentEncodingFeature;
 import jakarta.ws.rs.client.WebTarget;
 import static jakarta.ws.rs.client.Entity.text;
 
@@ -32,4 +33,15 @@ public class GzipExample {
         // send a gzip encoded body
         target.request().header("Content-Encoding", "gzip").post(text(body));
     }
+
+    public void contentEncodingFeatureExample() {
+        WebTarget target = ClientBuilder.newClient().target("http://example.com/foo/bar.txt");
+        target.register(ContentEncodingFeature.builder().encodings("gzip").compressRequests(1024, "gzip").build());
+
+        // advertises "Accept-Encoding: gzip" and decodes the body transparently
+        String body = target.request("text/plain").get(String.class);
+
+        // compressed as the body exceeds 1024 bytes
+        target.request().post(text(body));
+    }
 }
@@ -0,0 +1,4 @@
+/**
+ * Client file upload examples.
+ */
+package jaxrs.examples.client.file;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -11,10 +11,16 @@
 package jaxrs.examples.client.webdav;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientStatistics;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.SerializedEntity;
+import jakarta.ws.rs.client.TlsSessionStatistics;
 import jakarta.ws.rs.core.Configuration;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.UriBuilder;
@@ -118,4 +124,24 @@ public class WebDavClient implements Client {
     public HostnameVerifier getHostnameVerifier() {
         throw new UnsupportedOperationException("Not supported yet.");
     }
+
+    @Override
+    public CompletionStage<Void> prewarm(Collection<URI> targets) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public TlsSessionStatistics getTlsSessionStatistics() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public ClientStatistics getStatistics() {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    @Override
+    public SerializedEntity serialize(Entity<?> entity) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Distribution License v. 1.0, which is available at
@@ -16,6 +16,7 @@ import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.CompletionStageRxInvoker;
 import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.client.PreparedInvocation;
 import jakarta.ws.rs.client.RxInvoker;
 import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Cookie;
@@ -45,6 +46,11 @@ public class WebDavTargetedBuilder implements Invocation.Builder, WebDavSyncInvo
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public PreparedInvocation prepare(String method) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     @Override
     public Invocation buildDelete() {
         throw new UnsupportedOperationException("Not supported yet.");
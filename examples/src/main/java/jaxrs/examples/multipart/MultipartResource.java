@@ -1,5 +1,5 @@
 /*******************************************************************
-* Copyright (c) 2021 Eclipse Foundation
+* Copyright (c) 2021, 2026 Eclipse Foundation
 *
 * This specification document is made available under the terms
 * of the Eclipse Foundation Specification License v1.0, which is
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import jakarta.ws.rs.BadRequestException;
@@ -50,9 +51,11 @@ public class MultipartResource {
 
     @POST
     @Consumes(MediaType.MULTIPART_FORM_DATA)
-    public Response postNewPdfFiles(@QueryParam("dirName") String dirName, List<EntityPart> parts) throws IOException {
+    public Response postNewPdfFiles(@QueryParam("dirName") String dirName, Iterator<EntityPart> parts) throws IOException {
         File dir = getDirectoryIfExists(dirName);
-        for (EntityPart p : parts) {
+        // parts are received one at a time, so each file is copied while it is still being uploaded
+        while (parts.hasNext()) {
+            EntityPart p = parts.next();
             File f = new File(dir, p.getFileName().orElseThrow(BadRequestException::new));
             if (f.exists()) {
                 throw new WebApplicationException(409); // 409 CONFLICT
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+/**
+ * Determines the thread on which asynchronous invocations are completed, i.e. on which {@link InvocationCallback}
+ * methods are invoked, {@link java.util.concurrent.Future futures} are completed and dependent
+ * {@link java.util.concurrent.CompletionStage completion stages} without an explicit executor are run.
+ * <p>
+ * The mode is configured by setting the {@value #PROPERTY} property on a {@link Client}, a {@link WebTarget} or an
+ * {@link Invocation.Builder}, the latter taking precedence. If the property is absent, {@link #EXECUTOR} is used.
+ * </p>
+ *
+ * @see ClientBuilder#callbackExecution(CallbackExecution)
+ * @see Invocation.Builder#callbackExecution(CallbackExecution)
+ * @since 4.0
+ */
+public enum CallbackExecution {
+
+    /**
+     * Completions are dispatched to the {@link ClientBuilder#executorService(java.util.concurrent.ExecutorService)
+     * executor service} of the client.
+     * <p>
+     * Callbacks may block. This mode costs a thread hop per response.
+     * </p>
+     */
+    EXECUTOR,
+
+    /**
+     * Completions run directly on the thread that received the response, typically an I/O thread of the connector.
+     * <p>
+     * This mode avoids the thread hop, but is safe for non-blocking callbacks only: callbacks MUST NOT block, neither by
+     * blocking I/O, like a synchronous invocation or reading a response entity that has not been buffered, nor by waiting
+     * for locks or other futures, as this stalls the I/O of other requests and may deadlock the client. Long computations
+     * SHOULD be moved to another executor explicitly, e.g. via
+     * {@link java.util.concurrent.CompletionStage#thenApplyAsync(java.util.function.Function, java.util.concurrent.Executor)}.
+     * If the response is available when the completion is registered, the completion runs on the registering thread.
+     * </p>
+     */
+    DIRECT,
+
+    /**
+     * Each completion runs on a new virtual thread.
+     * <p>
+     * Callbacks may block, as blocking a virtual thread does not block a platform thread in general. If the Java runtime
+     * does not support virtual threads, implementations fall back to {@link #EXECUTOR}.
+     * </p>
+     */
+    VIRTUAL_THREAD;
+
+    /**
+     * Name of the configuration property holding the {@code CallbackExecution} mode of asynchronous invocations.
+     * <p>
+     * The value MUST be an instance of {@code CallbackExecution} or the {@link #name() name} of one.
+     * </p>
+     */
+    public static final String PROPERTY = "jakarta.ws.rs.client.CallbackExecution";
+}
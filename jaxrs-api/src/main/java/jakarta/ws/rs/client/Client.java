@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,6 +17,9 @@
 package jakarta.ws.rs.client;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
@@ -116,4 +119,90 @@ public interface Client extends Configurable<Client>, AutoCloseable {
      * @return client hostname verifier or {@code null} if not set.
      */
     public HostnameVerifier getHostnameVerifier();
+
+    /**
+     * Establish connections to the given targets in advance, so that subsequent requests to them do not pay for
+     * connection set-up.
+     * <p>
+     * For each distinct scheme, host and port of the given URIs, the implementation opens a connection, performs the TLS
+     * handshake in case of {@code https} and keeps the connection in its connection pool, as if a request had been sent.
+     * Path and query of the URIs are ignored; no request is sent. The established TLS sessions are stored in the
+     * {@link ClientBuilder#tlsSessionCache(int, long, java.util.concurrent.TimeUnit) TLS session cache}, so connections
+     * opened later can resume them. Applications typically call this method once at start-up, e.g. before reporting
+     * readiness, to avoid latency spikes on the first requests.
+     * </p>
+     * <p>
+     * The connections are established asynchronously. The returned stage completes once all connection attempts have
+     * finished; it completes exceptionally with a {@link jakarta.ws.rs.ProcessingException} if any of them failed, in
+     * which case the connections that could be established are kept nonetheless. Implementations that do not pool
+     * connections MAY complete the stage after performing the TLS handshakes only.
+     * </p>
+     *
+     * @param targets absolute URIs of the targets. Must not be {@code null}.
+     * @return completion stage completing once the connections have been established.
+     * @throws NullPointerException in case {@code targets} or any of its elements is {@code null}.
+     * @throws IllegalArgumentException in case any of the URIs is not absolute.
+     * @since 4.0
+     */
+    public CompletionStage<Void> prewarm(Collection<URI> targets);
+
+    /**
+     * Establish connections to the given targets in advance.
+     * <p>
+     * Same as calling {@link #prewarm(Collection) prewarm(Arrays.asList(targets))}.
+     * </p>
+     *
+     * @param targets absolute URIs of the targets. Must not be {@code null}.
+     * @return completion stage completing once the connections have been established.
+     * @throws NullPointerException in case {@code targets} or any of its elements is {@code null}.
+     * @throws IllegalArgumentException in case any of the URIs is not absolute.
+     * @since 4.0
+     */
+    public default CompletionStage<Void> prewarm(final URI... targets) {
+        return prewarm(Arrays.asList(targets));
+    }
+
+    /**
+     * Get a snapshot of the TLS handshakes performed by this client since it was built.
+     * <p>
+     * The numbers include the handshakes performed by {@link #prewarm(Collection) pre-warming}.
+     * </p>
+     *
+     * @return TLS session statistics of this client.
+     * @since 4.0
+     */
+    public TlsSessionStatistics getTlsSessionStatistics();
+
+    /**
+     * Get a snapshot of the state of the connection pool and the transport of this client.
+     * <p>
+     * Taking a snapshot MUST NOT block on the connection pool, so it is safe to call this method frequently, e.g. when
+     * exporting metrics. The numbers in a snapshot need not be consistent with each other, as the pool keeps changing
+     * while the snapshot is taken.
+     * </p>
+     *
+     * @return transport statistics of this client.
+     * @see ClientResponseContext#getTimings()
+     * @since 4.0
+     */
+    public ClientStatistics getStatistics();
+
+    /**
+     * Serialize an entity once, so that it can be sent many times without being encoded again.
+     * <p>
+     * The entity is written by the {@link jakarta.ws.rs.ext.MessageBodyWriter} selected for its Java type and media type
+     * using the providers and the configuration of this client, the same as when sending it.
+     * {@link jakarta.ws.rs.ext.WriterInterceptor Writer interceptors} registered with the client are not applied, as they
+     * are applied whenever the resulting entity is sent.
+     * </p>
+     *
+     * @param entity entity to serialize. Must not be {@code null}.
+     * @return serialized entity holding the bytes written and the variant of the entity.
+     * @throws jakarta.ws.rs.ProcessingException in case no suitable message body writer is available or the writer
+     * failed.
+     * @throws NullPointerException in case {@code entity} is {@code null}.
+     * @see Entity#serialized(SerializedEntity)
+     * @since 4.0
+     */
+    public SerializedEntity serialize(Entity<?> entity);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -45,6 +45,40 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      */
     public static final String JAXRS_DEFAULT_CLIENT_BUILDER_PROPERTY = "jakarta.ws.rs.client.ClientBuilder";
 
+    /**
+     * Name of the configuration property enabling virtual threads for asynchronous invocations.
+     * <p>
+     * The value MUST be a {@link Boolean} or its {@link Boolean#toString() string representation}. If absent, virtual
+     * threads are not used.
+     * </p>
+     *
+     * @see #virtualThreads(boolean)
+     * @since 4.0
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "jakarta.ws.rs.client.virtualThreads";
+
+    /**
+     * Name of the configuration property holding the maximum number of TLS sessions cached for resumption.
+     * <p>
+     * The value MUST be an {@link Integer} or its string representation; {@code 0} means no limit.
+     * </p>
+     *
+     * @see #tlsSessionCache(int, long, TimeUnit)
+     * @since 4.0
+     */
+    public static final String TLS_SESSION_CACHE_SIZE_PROPERTY = "jakarta.ws.rs.client.tlsSessionCacheSize";
+
+    /**
+     * Name of the configuration property holding the lifetime of cached TLS sessions in milliseconds.
+     * <p>
+     * The value MUST be a {@link Long} or its string representation; {@code 0} means no limit.
+     * </p>
+     *
+     * @see #tlsSessionCache(int, long, TimeUnit)
+     * @since 4.0
+     */
+    public static final String TLS_SESSION_TIMEOUT_PROPERTY = "jakarta.ws.rs.client.tlsSessionTimeout";
+
     /**
      * Allows custom implementations to extend the {@code ClientBuilder} class.
      */
@@ -202,6 +236,39 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      */
     public abstract ClientBuilder hostnameVerifier(final HostnameVerifier verifier);
 
+    /**
+     * Configure the cache of TLS sessions used for session resumption.
+     * <p>
+     * A connection to a host the client has established a TLS session with before can resume that session using an
+     * abbreviated handshake, which saves round trips and expensive public key operations. Implementations MUST apply the
+     * configuration to the sessions of the built client only, i.e. MUST NOT modify the
+     * {@link SSLContext#getClientSessionContext() session context} of an SSL context shared with other clients. If not
+     * configured, the defaults of the underlying TLS implementation are used.
+     * </p>
+     * <p>
+     * Same as setting the properties {@link #TLS_SESSION_CACHE_SIZE_PROPERTY} and {@link #TLS_SESSION_TIMEOUT_PROPERTY}.
+     * </p>
+     *
+     * @param size maximum number of cached sessions; {@code 0} means no limit. Negative values are not allowed.
+     * @param timeout maximum lifetime of a cached session; {@code 0} means no limit. Negative values are not allowed. A
+     * positive timeout of less than a millisecond is rounded up to one millisecond.
+     * @param unit the time unit of the timeout argument.
+     * @return an updated client builder instance.
+     * @throws IllegalArgumentException when any of the values is negative.
+     * @see Client#getTlsSessionStatistics()
+     * @since 4.0
+     */
+    public ClientBuilder tlsSessionCache(final int size, final long timeout, final TimeUnit unit) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        final long timeoutMillis = timeout > 0 ? Math.max(1, unit.toMillis(timeout)) : 0;
+        return property(TLS_SESSION_CACHE_SIZE_PROPERTY, size).property(TLS_SESSION_TIMEOUT_PROPERTY, timeoutMillis);
+    }
+
     /**
      * Set the client-side {@link ExecutorService}.
      * <p>
@@ -216,6 +283,8 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      * @see Invocation.Builder#async()
      * @see Invocation.Builder#rx()
      * @see RxInvokerProvider#getRxInvoker(SyncInvoker, ExecutorService)
+     * @see CallbackExecution
+     * @see #virtualThreads(boolean)
      * @since 2.1
      */
     public abstract ClientBuilder executorService(final ExecutorService executorService);
@@ -232,10 +301,56 @@ public abstract class ClientBuilder implements Configurable<ClientBuilder> {
      * @param scheduledExecutorService executor service to be used for scheduled async invocations.
      * @return an updated client builder instance.
      * @see jakarta.ws.rs.sse.SseEventSource.Builder#reconnectingEvery(long, TimeUnit)
+     * @see RetryPolicy
+     * @see HedgingPolicy
      * @since 2.1
      */
     public abstract ClientBuilder scheduledExecutorService(final ScheduledExecutorService scheduledExecutorService);
 
+    /**
+     * Set the thread on which asynchronous invocations are completed.
+     * <p>
+     * Same as calling {@link #property(String, Object) property(CallbackExecution.PROPERTY, mode)}. The mode can be
+     * overridden per invocation using {@link Invocation.Builder#callbackExecution(CallbackExecution)}. Note that
+     * {@link CallbackExecution#DIRECT} is safe for non-blocking callbacks only.
+     * </p>
+     *
+     * @param mode callback execution mode.
+     * @return an updated client builder instance.
+     * @see CallbackExecution
+     * @since 4.0
+     */
+    public ClientBuilder callbackExecution(final CallbackExecution mode) {
+        return property(CallbackExecution.PROPERTY, mode);
+    }
+
+    /**
+     * Set whether asynchronous invocations are executed on virtual threads.
+     * <p>
+     * If enabled, each invocation made via {@link Invocation.Builder#async()}, {@link Invocation.Builder#rx()} or
+     * {@link AsyncInvoker} and {@link CompletionStageRxInvoker} obtained otherwise is executed on a new virtual thread,
+     * including the execution of filters, interceptors and blocking entity providers. As blocking a virtual thread does
+     * not block a platform thread in general, the number of asynchronous invocations in flight is not limited by the size
+     * of a thread pool, so no pool size needs to be configured. The {@link #executorService(ExecutorService) executor
+     * service} is then not used for executing invocations. Completions are run on the same virtual thread, unless
+     * {@link CallbackExecution} is configured explicitly.
+     * </p>
+     * <p>
+     * Same as calling {@link #property(String, Object) property(VIRTUAL_THREADS_PROPERTY, enabled)}. If the Java runtime
+     * does not support virtual threads, implementations ignore this setting and use the executor service.
+     * </p>
+     *
+     * @param enabled {@code true} to execute asynchronous invocations on virtual threads, {@code false} to execute them
+     * using the executor service.
+     * @return an updated client builder instance.
+     * @see #VIRTUAL_THREADS_PROPERTY
+     * @see CallbackExecution#VIRTUAL_THREAD
+     * @since 4.0
+     */
+    public ClientBuilder virtualThreads(final boolean enabled) {
+        return property(VIRTUAL_THREADS_PROPERTY, enabled);
+    }
+
     /**
      * Set the connect timeout.
      * <p>
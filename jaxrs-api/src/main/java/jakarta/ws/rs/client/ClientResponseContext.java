@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,7 @@ import java.net.URI;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import jakarta.ws.rs.core.EntityTag;
@@ -204,4 +205,18 @@ public interface ClientResponseContext {
      * @param input new entity input stream.
      */
     public void setEntityStream(InputStream input);
+
+    /**
+     * Get the breakdown of the time spent on the transport of the request.
+     * <p>
+     * Timings are available only if their recording has been enabled by the {@value RequestTimings#PROPERTY} property
+     * and the implementation supports it. The default implementation returns an empty {@code Optional}.
+     * </p>
+     *
+     * @return timings of the request, or an empty {@code Optional} if not recorded.
+     * @since 4.0
+     */
+    public default Optional<RequestTimings> getTimings() {
+        return Optional.empty();
+    }
 }
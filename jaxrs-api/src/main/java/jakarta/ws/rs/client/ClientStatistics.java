@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.Objects;
+
+/**
+ * Snapshot of the state of the connection pool and the transport of a {@link Client}.
+ * <p>
+ * Connection numbers reflect the state at the time the snapshot was taken, while byte counts and handshakes accumulate
+ * since the client was built. A persistently positive number of {@link #getPendingAcquisitions() pending acquisitions}
+ * indicates that the connection pool is exhausted. Implementations that do not pool connections report each connection
+ * in use as open and none as idle. Timings of individual requests are available to {@link ClientResponseFilter}s via
+ * {@link ClientResponseContext#getTimings()}.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * @see Client#getStatistics()
+ * @since 4.0
+ */
+public final class ClientStatistics {
+
+    private final int openConnections;
+    private final int idleConnections;
+    private final int pendingAcquisitions;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final TlsSessionStatistics tlsSessionStatistics;
+
+    private ClientStatistics(final Builder builder) {
+        this.openConnections = builder.openConnections;
+        this.idleConnections = builder.idleConnections;
+        this.pendingAcquisitions = builder.pendingAcquisitions;
+        this.bytesSent = builder.bytesSent;
+        this.bytesReceived = builder.bytesReceived;
+        this.tlsSessionStatistics = builder.tlsSessionStatistics;
+    }
+
+    /**
+     * Get the number of open connections, whether in use or idle.
+     *
+     * @return number of open connections.
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * Get the number of open connections not currently used by a request.
+     *
+     * @return number of idle connections.
+     */
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * Get the number of open connections currently used by a request.
+     *
+     * @return number of active connections.
+     */
+    public int getActiveConnections() {
+        return openConnections - idleConnections;
+    }
+
+    /**
+     * Get the number of requests currently waiting for a connection to become available.
+     *
+     * @return number of pending connection acquisitions.
+     */
+    public int getPendingAcquisitions() {
+        return pendingAcquisitions;
+    }
+
+    /**
+     * Get the number of bytes sent, including headers, since the client was built.
+     *
+     * @return number of bytes sent.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * Get the number of bytes received, including headers, since the client was built.
+     *
+     * @return number of bytes received.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * Get the TLS handshakes performed since the client was built.
+     *
+     * @return TLS session statistics, same as returned by {@link Client#getTlsSessionStatistics()}.
+     */
+    public TlsSessionStatistics getTlsSessionStatistics() {
+        return tlsSessionStatistics;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClientStatistics)) {
+            return false;
+        }
+        final ClientStatistics other = (ClientStatistics) o;
+        return openConnections == other.openConnections
+                && idleConnections == other.idleConnections
+                && pendingAcquisitions == other.pendingAcquisitions
+                && bytesSent == other.bytesSent
+                && bytesReceived == other.bytesReceived
+                && tlsSessionStatistics.equals(other.tlsSessionStatistics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(openConnections, idleConnections, pendingAcquisitions, bytesSent, bytesReceived, tlsSessionStatistics);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientStatistics{openConnections=" + openConnections + ", idleConnections=" + idleConnections
+                + ", pendingAcquisitions=" + pendingAcquisitions + ", bytesSent=" + bytesSent + ", bytesReceived=" + bytesReceived
+                + ", tlsSessionStatistics=" + tlsSessionStatistics + '}';
+    }
+
+    /**
+     * Builder for {@link ClientStatistics} instances, to be used by implementations.
+     * <p>
+     * All numbers default to {@code 0}.
+     * </p>
+     *
+     * @since 4.0
+     */
+    public static final class Builder {
+
+        private int openConnections;
+        private int idleConnections;
+        private int pendingAcquisitions;
+        private long bytesSent;
+        private long bytesReceived;
+        private TlsSessionStatistics tlsSessionStatistics = new TlsSessionStatistics(0, 0);
+
+        /**
+         * Create a new builder initialized with the default values.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the number of open connections.
+         *
+         * @param openConnections number of open connections, whether in use or idle. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code openConnections} is negative.
+         */
+        public Builder openConnections(final int openConnections) {
+            if (openConnections < 0) {
+                throw new IllegalArgumentException("openConnections must not be negative");
+            }
+            this.openConnections = openConnections;
+            return this;
+        }
+
+        /**
+         * Set the number of idle connections.
+         *
+         * @param idleConnections number of open connections not in use. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code idleConnections} is negative.
+         */
+        public Builder idleConnections(final int idleConnections) {
+            if (idleConnections < 0) {
+                throw new IllegalArgumentException("idleConnections must not be negative");
+            }
+            this.idleConnections = idleConnections;
+            return this;
+        }
+
+        /**
+         * Set the number of pending connection acquisitions.
+         *
+         * @param pendingAcquisitions number of requests waiting for a connection. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code pendingAcquisitions} is negative.
+         */
+        public Builder pendingAcquisitions(final int pendingAcquisitions) {
+            if (pendingAcquisitions < 0) {
+                throw new IllegalArgumentException("pendingAcquisitions must not be negative");
+            }
+            this.pendingAcquisitions = pendingAcquisitions;
+            return this;
+        }
+
+        /**
+         * Set the number of bytes sent.
+         *
+         * @param bytesSent number of bytes sent. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code bytesSent} is negative.
+         */
+        public Builder bytesSent(final long bytesSent) {
+            if (bytesSent < 0) {
+                throw new IllegalArgumentException("bytesSent must not be negative");
+            }
+            this.bytesSent = bytesSent;
+            return this;
+        }
+
+        /**
+         * Set the number of bytes received.
+         *
+         * @param bytesReceived number of bytes received. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code bytesReceived} is negative.
+         */
+        public Builder bytesReceived(final long bytesReceived) {
+            if (bytesReceived < 0) {
+                throw new IllegalArgumentException("bytesReceived must not be negative");
+            }
+            this.bytesReceived = bytesReceived;
+            return this;
+        }
+
+        /**
+         * Set the TLS session statistics.
+         *
+         * @param tlsSessionStatistics TLS handshakes performed.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code tlsSessionStatistics} is {@code null}.
+         */
+        public Builder tlsSessionStatistics(final TlsSessionStatistics tlsSessionStatistics) {
+            if (tlsSessionStatistics == null) {
+                throw new IllegalArgumentException("tlsSessionStatistics must not be null");
+            }
+            this.tlsSessionStatistics = tlsSessionStatistics;
+            return this;
+        }
+
+        /**
+         * Build a new {@link ClientStatistics} from the values set on this builder.
+         *
+         * @return new statistics snapshot.
+         * @throws IllegalStateException in case the number of idle connections exceeds the number of open connections.
+         */
+        public ClientStatistics build() {
+            if (idleConnections > openConnections) {
+                throw new IllegalStateException("idleConnections must not exceed openConnections");
+            }
+            return new ClientStatistics(this);
+        }
+    }
+}
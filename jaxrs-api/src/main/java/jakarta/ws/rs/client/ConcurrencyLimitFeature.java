@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * Client-side protection against slow or failing targets.
+ * <p>
+ * Once registered with a {@link Client} or {@link WebTarget}, the feature tracks every request per target, identified by
+ * the {@link java.net.URI#getAuthority() authority} of the request URI, and applies two mechanisms:
+ * </p>
+ * <ul>
+ * <li>An <em>adaptive concurrency limit</em> bounds the number of requests in flight per target. The limit is adjusted
+ * continuously by a {@link LimitAlgorithm} from the observed round-trip times and failures. Requests exceeding the limit
+ * are rejected immediately instead of queuing up.</li>
+ * <li>A <em>circuit breaker</em> opens once the failure rate of a target exceeds a threshold. While open, requests to
+ * the target are rejected immediately. After the open duration, the breaker lets a single trial request pass
+ * ({@link CircuitState#HALF_OPEN half-open}) and closes again if that request succeeds.</li>
+ * </ul>
+ * <p>
+ * A rejected invocation fails with a {@link jakarta.ws.rs.ProcessingException} whose cause is a
+ * {@link java.util.concurrent.RejectedExecutionException}; the request is not sent in that case. A response with a
+ * {@code 5xx} status code as well as a {@link jakarta.ws.rs.ProcessingException} raised while sending the request or
+ * receiving the response count as failure.
+ * </p>
+ * <p>
+ * Implementations apply the feature by means of a {@link ClientRequestFilter} and a {@link ClientResponseFilter}. As the
+ * state of each target is updated by every request, implementations SHOULD keep it lock-free and stripe it by target to
+ * avoid contention.
+ * </p>
+ *
+ * <pre>
+ * ConcurrencyLimitFeature protection = ConcurrencyLimitFeature.builder()
+ *         .gradient(20, 200, 2.0)
+ *         .circuitBreaker(0.5, 20, Duration.ofSeconds(10))
+ *         .build();
+ * Client client = ClientBuilder.newBuilder().register(protection).build();
+ * ...
+ * protection.getMetrics().forEach((target, metrics) -&gt; report(target, metrics.getLimit(), metrics.getCircuitState()));
+ * </pre>
+ *
+ * @since 4.0
+ */
+public interface ConcurrencyLimitFeature extends Feature {
+
+    /**
+     * Creates a new {@code ConcurrencyLimitFeature.Builder} instance.
+     *
+     * @return {@link Builder} for building new {@link ConcurrencyLimitFeature} instances.
+     */
+    static Builder builder() {
+        return RuntimeDelegate.getInstance().createConcurrencyLimitFeatureBuilder();
+    }
+
+    /**
+     * Returns a snapshot of the state of all targets this feature has seen requests for so far.
+     *
+     * @return immutable map of target metrics, keyed by the authority ({@code host:port}) of the target.
+     */
+    Map<String, TargetMetrics> getMetrics();
+
+    /**
+     * State of a circuit breaker.
+     *
+     * @since 4.0
+     */
+    enum CircuitState {
+
+        /**
+         * Requests pass, failures are counted.
+         */
+        CLOSED,
+
+        /**
+         * Requests are rejected without being sent.
+         */
+        OPEN,
+
+        /**
+         * A single trial request passes to probe whether the target has recovered.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Snapshot of the protection state of a single target.
+     *
+     * @since 4.0
+     */
+    interface TargetMetrics {
+
+        /**
+         * Returns the current concurrency limit of the target.
+         *
+         * @return maximum number of requests allowed in flight.
+         */
+        int getLimit();
+
+        /**
+         * Returns the number of requests currently in flight to the target.
+         *
+         * @return number of requests in flight.
+         */
+        int getInFlight();
+
+        /**
+         * Returns the total number of requests rejected by either the concurrency limit or the circuit breaker.
+         *
+         * @return number of rejected requests.
+         */
+        long getRejected();
+
+        /**
+         * Returns the current state of the circuit breaker of the target.
+         *
+         * @return circuit breaker state.
+         */
+        CircuitState getCircuitState();
+    }
+
+    /**
+     * Algorithm adjusting the concurrency limit of a single target.
+     * <p>
+     * A separate instance is used for each target. The methods of an instance are invoked concurrently by all requests to
+     * that target and thus MUST be thread-safe; implementations SHOULD NOT block.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface LimitAlgorithm {
+
+        /**
+         * Returns the current concurrency limit.
+         *
+         * @return maximum number of requests allowed in flight, at least {@code 1}.
+         */
+        int getLimit();
+
+        /**
+         * Updates the limit with the outcome of a completed request.
+         *
+         * @param rttNanos round-trip time of the request in nanoseconds.
+         * @param inFlight number of requests in flight when the request was sent.
+         * @param dropped {@code true} if the request failed or timed out, {@code false} otherwise.
+         */
+        void onSample(long rttNanos, int inFlight, boolean dropped);
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimitFeature} instances.
+     * <p>
+     * If no limit algorithm is set, an implementation-specific default is used. If no circuit breaker is set, the circuit
+     * of every target stays {@link CircuitState#CLOSED closed}.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface Builder {
+
+        /**
+         * Uses an <em>additive increase / multiplicative decrease</em> algorithm: the limit grows by one for each
+         * successful request while the target is utilized, and is multiplied by {@code backoffRatio} on each failure.
+         *
+         * @param initialLimit the limit before the first sample has been taken.
+         * @param maxLimit upper bound of the limit.
+         * @param backoffRatio factor in the range {@code (0, 1)} the limit is multiplied with on failure.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if any of the values is out of range.
+         */
+        Builder aimd(int initialLimit, int maxLimit, double backoffRatio);
+
+        /**
+         * Uses a <em>gradient</em> algorithm: the limit follows the ratio of the minimum round-trip time observed so far
+         * to the current round-trip time, so it shrinks as soon as the target starts queuing requests.
+         *
+         * @param initialLimit the limit before the first sample has been taken.
+         * @param maxLimit upper bound of the limit.
+         * @param tolerance factor, at least {@code 1.0}, by which the round-trip time may exceed the minimum before the
+         * limit is reduced.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if any of the values is out of range.
+         */
+        Builder gradient(int initialLimit, int maxLimit, double tolerance);
+
+        /**
+         * Uses a custom algorithm.
+         *
+         * @param algorithmFactory factory invoked once per target to create the algorithm instance of that target.
+         * @return the updated builder.
+         * @throws NullPointerException if {@code algorithmFactory} is {@code null}.
+         */
+        Builder limitAlgorithm(Supplier<? extends LimitAlgorithm> algorithmFactory);
+
+        /**
+         * Enables the circuit breaker.
+         *
+         * @param failureRateThreshold failure rate in the range {@code (0, 1]} above which the circuit opens.
+         * @param minimumRequests minimum number of requests in the current window before the failure rate is evaluated.
+         * @param openDuration time the circuit stays open before a trial request is let through.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if any of the values is out of range.
+         * @throws NullPointerException if {@code openDuration} is {@code null}.
+         */
+        Builder circuitBreaker(double failureRateThreshold, int minimumRequests, Duration openDuration);
+
+        /**
+         * Builds a new {@link ConcurrencyLimitFeature} instance using the provided property values.
+         *
+         * @return {@link ConcurrencyLimitFeature} instance built from the provided property values.
+         */
+        ConcurrencyLimitFeature build();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.List;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * Automatic content encoding negotiation for client requests and responses.
+ * <p>
+ * Once registered with a {@link Client} or {@link WebTarget}, the feature adds an {@code Accept-Encoding} header listing
+ * the configured encodings to every request not carrying one already, and transparently decodes each response entity
+ * with a matching {@code Content-Encoding}. The decoded response no longer carries the {@code Content-Encoding} and
+ * {@code Content-Length} headers. Optionally, request entities exceeding a size threshold are compressed, too.
+ * </p>
+ * <p>
+ * All implementations MUST support the {@code gzip} and {@code deflate} encodings. The {@link java.util.zip.Inflater}
+ * and {@link java.util.zip.Deflater} instances used for coding are taken from a pool owned by the feature instance and
+ * returned to it once the entity has been read or written, so they are not allocated per request. Pooled instances are
+ * released when the {@link Client} is {@link Client#close() closed}.
+ * </p>
+ *
+ * <pre>
+ * Client client = ClientBuilder.newBuilder()
+ *         .register(ContentEncodingFeature.builder()
+ *                 .encodings("gzip")
+ *                 .compressRequests(8192, "gzip")
+ *                 .build())
+ *         .build();
+ * </pre>
+ *
+ * @since 4.0
+ */
+public interface ContentEncodingFeature extends Feature {
+
+    /**
+     * Creates a new {@code ContentEncodingFeature.Builder} instance.
+     *
+     * @return {@link Builder} for building new {@link ContentEncodingFeature} instances.
+     */
+    static Builder builder() {
+        return RuntimeDelegate.getInstance().createContentEncodingFeatureBuilder();
+    }
+
+    /**
+     * Returns the encodings advertised in the {@code Accept-Encoding} header, in order of preference.
+     *
+     * @return immutable list of content codings.
+     */
+    List<String> getEncodings();
+
+    /**
+     * Builder for {@link ContentEncodingFeature} instances.
+     * <p>
+     * If no encodings are set, {@code gzip} and {@code deflate} are advertised. Request entities are not compressed unless
+     * configured. The compression level and the pool size default to implementation-specific values.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface Builder {
+
+        /**
+         * Sets the encodings to advertise and decode, in order of preference.
+         *
+         * @param encodings content codings as defined by RFC 9110, e.g. {@code gzip}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if no encoding is given or an encoding is not supported by the implementation.
+         */
+        Builder encodings(String... encodings);
+
+        /**
+         * Enables the compression of request entities.
+         * <p>
+         * An entity is compressed if its length, as known from the {@code Content-Length} header or found while writing the
+         * entity, exceeds the threshold, and if the request does not carry a {@code Content-Encoding} header already. The
+         * implementation buffers at most {@code thresholdBytes} bytes to decide.
+         * </p>
+         *
+         * @param thresholdBytes minimum entity length in bytes for compression to apply. Must not be negative.
+         * @param encoding content coding used for compression.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code thresholdBytes} is negative or {@code encoding} is not supported by the
+         * implementation.
+         */
+        Builder compressRequests(long thresholdBytes, String encoding);
+
+        /**
+         * Sets the compression level used for request entities.
+         *
+         * @param level compression level from {@link java.util.zip.Deflater#BEST_SPEED} to
+         * {@link java.util.zip.Deflater#BEST_COMPRESSION}, or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code level} is out of range.
+         */
+        Builder compressionLevel(int level);
+
+        /**
+         * Sets the maximum number of idle codec instances kept in the pool per encoding and direction.
+         *
+         * @param maxIdleCodecs maximum number of pooled instances; {@code 0} disables pooling. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code maxIdleCodecs} is negative.
+         */
+        Builder poolSize(int maxIdleCodecs);
+
+        /**
+         * Builds a new {@link ContentEncodingFeature} instance using the provided property values.
+         *
+         * @return {@link ContentEncodingFeature} instance built from the provided property values.
+         */
+        ContentEncodingFeature build();
+    }
+}
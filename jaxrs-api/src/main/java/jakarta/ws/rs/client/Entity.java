@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,10 +17,12 @@
 package jakarta.ws.rs.client;
 
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Objects;
 
+import jakarta.ws.rs.core.FileRegion;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -177,6 +179,70 @@ public final class Entity<T> {
         return new Entity<Form>(new Form(formData), MediaType.APPLICATION_FORM_URLENCODED_TYPE);
     }
 
+    /**
+     * Create an entity sending the content of a file.
+     * <p>
+     * The pre-packaged entity provider for {@link Path} sets the {@code Content-Length} header to the size of the file and
+     * SHOULD transfer the content using {@link java.nio.channels.FileChannel#transferTo(long, long,
+     * java.nio.channels.WritableByteChannel) FileChannel.transferTo}, so the operating system can send it without copying
+     * it through buffers in the Java heap. The file is opened when the entity is written, not when this method is invoked.
+     * </p>
+     *
+     * @param file path of the file to send.
+     * @param mediaType entity content type.
+     * @return file entity instance.
+     * @throws IllegalArgumentException in case {@code file} is {@code null}.
+     * @since 4.0
+     */
+    public static Entity<Path> file(final Path file, final MediaType mediaType) {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+        return new Entity<Path>(file, mediaType);
+    }
+
+    /**
+     * Create an entity sending a region of a file.
+     * <p>
+     * The pre-packaged entity provider for {@link FileRegion} sets the {@code Content-Length} header to the count of the
+     * region and SHOULD transfer the content without copying it through buffers in the Java heap, see {@link FileRegion}.
+     * </p>
+     *
+     * @param region region of a file to send.
+     * @param mediaType entity content type.
+     * @return file region entity instance.
+     * @throws IllegalArgumentException in case {@code region} is {@code null}.
+     * @since 4.0
+     */
+    public static Entity<FileRegion> file(final FileRegion region, final MediaType mediaType) {
+        if (region == null) {
+            throw new IllegalArgumentException("region must not be null");
+        }
+        return new Entity<FileRegion>(region, mediaType);
+    }
+
+    /**
+     * Create an entity sending a {@link SerializedEntity serialized entity}.
+     * <p>
+     * The variant of the created entity is the {@link SerializedEntity#getVariant() variant} of the serialized entity. The
+     * pre-packaged entity provider for {@link SerializedEntity} writes its bytes without encoding them again and sets the
+     * {@code Content-Length} header to their length. As the serialized entity is immutable, the created entity can be
+     * sent any number of times, also concurrently.
+     * </p>
+     *
+     * @param serialized serialized entity to send.
+     * @return serialized entity instance.
+     * @throws IllegalArgumentException in case {@code serialized} is {@code null}.
+     * @see Client#serialize(Entity)
+     * @since 4.0
+     */
+    public static Entity<SerializedEntity> serialized(final SerializedEntity serialized) {
+        if (serialized == null) {
+            throw new IllegalArgumentException("serialized must not be null");
+        }
+        return new Entity<SerializedEntity>(serialized, serialized.getVariant());
+    }
+
     private Entity(final T entity, final MediaType mediaType) {
         this(entity, new Variant(mediaType, (Locale) null, null), null);
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Reactive invoker based on {@link java.util.concurrent.Flow.Publisher}.
+ * <p>
+ * All publishers returned by this invoker are <em>cold</em>: the request is sent once a subscriber subscribes, and each
+ * subscription sends a new request. Cancelling the subscription aborts the request and releases the underlying
+ * connection.
+ * </p>
+ * <p>
+ * The methods inherited from {@link RxInvoker} return publishers emitting exactly one item, either the
+ * {@link Response} or the response entity converted to the requested type, and then complete. The additional
+ * {@code bytes} and {@code elements} methods stream the response entity with demand-driven backpressure, so large or
+ * unbounded entities can be consumed without buffering the whole entity and without blocking a thread:
+ * </p>
+ * <ul>
+ * <li>{@link #bytes(String, Entity)} emits the raw entity as a sequence of {@link ByteBuffer} chunks.</li>
+ * <li>{@link #elements(String, Entity, Class)} emits the entity decoded as a sequence of elements. If the response media
+ * type denotes a sequence format supported by the implementation, like newline-delimited JSON, each record is decoded
+ * separately by the {@link jakarta.ws.rs.ext.MessageBodyReader} for the element type as soon as it has been received.
+ * For any other media type the entity is decoded as a single element.</li>
+ * </ul>
+ * <p>
+ * The implementation reads from the connection only as far as demanded by the subscriber. If the response status code
+ * is not {@link Response.Status.Family#SUCCESSFUL successful}, the streaming publishers signal a
+ * {@link jakarta.ws.rs.WebApplicationException} via {@link Flow.Subscriber#onError(Throwable)} and emit no items.
+ * </p>
+ *
+ * <pre>
+ * client.target("http://example.com/events")
+ *         .request("application/x-ndjson")
+ *         .flow()
+ *         .elements(HttpMethod.GET, null, Event.class)
+ *         .subscribe(subscriber);
+ * </pre>
+ * <p>
+ * All JAX-RS implementations MUST support this invoker; it does not need to be registered.
+ * </p>
+ *
+ * @see Invocation.Builder#flow()
+ * @since 4.0
+ */
+public interface FlowRxInvoker extends RxInvoker<Flow.Publisher> {
+
+    /**
+     * Invoke an arbitrary method for the current request and stream the raw response entity.
+     * <p>
+     * Implementations MAY reuse a buffer once {@link Flow.Subscriber#onNext(Object)} returned, so subscribers needing to
+     * retain the content of a buffer beyond that point have to copy it.
+     * </p>
+     *
+     * @param name method name.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @return publisher of the response entity as chunks of bytes.
+     */
+    public Flow.Publisher<ByteBuffer> bytes(String name, Entity<?> entity);
+
+    /**
+     * Invoke an arbitrary method for the current request and stream the response entity as decoded elements.
+     *
+     * @param name method name.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param elementType Java type each element is converted to.
+     * @param <T> element type.
+     * @return publisher of the decoded elements.
+     */
+    public <T> Flow.Publisher<T> elements(String name, Entity<?> entity, Class<T> elementType);
+
+    /**
+     * Invoke an arbitrary method for the current request and stream the response entity as decoded elements.
+     *
+     * @param name method name.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param elementType representation of a generic Java type each element is converted to.
+     * @param <T> generic element type.
+     * @return publisher of the decoded elements.
+     */
+    public <T> Flow.Publisher<T> elements(String name, Entity<?> entity, GenericType<T> elementType);
+
+    @Override
+    public Flow.Publisher<Response> get();
+
+    @Override
+    public <T> Flow.Publisher<T> get(Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> get(GenericType<T> responseType);
+
+    @Override
+    public Flow.Publisher<Response> put(Entity<?> entity);
+
+    @Override
+    public <T> Flow.Publisher<T> put(Entity<?> entity, Class<T> clazz);
+
+    @Override
+    public <T> Flow.Publisher<T> put(Entity<?> entity, GenericType<T> type);
+
+    @Override
+    public Flow.Publisher<Response> post(Entity<?> entity);
+
+    @Override
+    public <T> Flow.Publisher<T> post(Entity<?> entity, Class<T> clazz);
+
+    @Override
+    public <T> Flow.Publisher<T> post(Entity<?> entity, GenericType<T> type);
+
+    @Override
+    public Flow.Publisher<Response> delete();
+
+    @Override
+    public <T> Flow.Publisher<T> delete(Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> delete(GenericType<T> responseType);
+
+    @Override
+    public Flow.Publisher<Response> head();
+
+    @Override
+    public Flow.Publisher<Response> options();
+
+    @Override
+    public <T> Flow.Publisher<T> options(Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> options(GenericType<T> responseType);
+
+    @Override
+    public Flow.Publisher<Response> trace();
+
+    @Override
+    public <T> Flow.Publisher<T> trace(Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> trace(GenericType<T> responseType);
+
+    @Override
+    public Flow.Publisher<Response> method(String name);
+
+    @Override
+    public <T> Flow.Publisher<T> method(String name, Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> method(String name, GenericType<T> responseType);
+
+    @Override
+    public Flow.Publisher<Response> method(String name, Entity<?> entity);
+
+    @Override
+    public <T> Flow.Publisher<T> method(String name, Entity<?> entity, Class<T> responseType);
+
+    @Override
+    public <T> Flow.Publisher<T> method(String name, Entity<?> entity, GenericType<T> responseType);
+}
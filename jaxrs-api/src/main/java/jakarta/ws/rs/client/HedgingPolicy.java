@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Declarative hedging policy for client request invocations.
+ * <p>
+ * With hedging enabled, the client runtime sends an additional ("hedged") attempt of the very same request if no
+ * response has been received for the original attempt within the hedging delay. The first response received wins; all
+ * other outstanding attempts are cancelled. Hedging trades a small amount of additional load for a substantial reduction
+ * of tail latency, in particular for fan-out requests.
+ * </p>
+ * <p>
+ * By default the hedging delay follows the latency observed by the client runtime for the target: a new attempt is fired
+ * once the {@link Builder#percentile(double) configured percentile} of recent response times has elapsed, bounded by the
+ * {@link Builder#minDelay(Duration) minimum} and {@link Builder#maxDelay(Duration) maximum} delay. Alternatively, a
+ * {@link Builder#fixedDelay(Duration) fixed delay} can be configured. Implementations track latency per target URI
+ * authority and use the {@link ClientBuilder#scheduledExecutorService(ScheduledExecutorService) scheduled executor
+ * service} of the client to fire hedged attempts.
+ * </p>
+ * <p>
+ * A policy is enabled by setting it as the value of the {@value #PROPERTY} property on a {@link Client}, a
+ * {@link WebTarget} or an {@link Invocation.Builder}, the latter taking precedence. Only requests using an idempotent
+ * HTTP method are hedged. If a {@link RetryPolicy} is configured, too, each retry attempt is hedged again.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe and thus can be shared by many invocations.
+ * </p>
+ *
+ * @see RetryPolicy
+ * @see Invocation.Builder#hedge(HedgingPolicy)
+ * @since 4.0
+ */
+public final class HedgingPolicy {
+
+    /**
+     * Name of the configuration property holding the {@code HedgingPolicy} to apply to invocations.
+     * <p>
+     * The property can be set on a {@link Client}, a {@link WebTarget} or an {@link Invocation.Builder}. The value MUST be
+     * an instance of {@code HedgingPolicy}. If the property is absent, requests are not hedged.
+     * </p>
+     */
+    public static final String PROPERTY = "jakarta.ws.rs.client.HedgingPolicy";
+
+    private final int maxAttempts;
+    private final double percentile;
+    private final Duration fixedDelay;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+
+    private HedgingPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.percentile = builder.percentile;
+        this.fixedDelay = builder.fixedDelay;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+    }
+
+    /**
+     * Get the maximum number of concurrently outstanding attempts, including the original one.
+     *
+     * @return maximum number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Get the latency percentile after which a hedged attempt is fired.
+     *
+     * @return latency percentile in the range {@code (0, 100)}.
+     */
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Get the fixed hedging delay.
+     *
+     * @return fixed hedging delay or {@code null} if the delay is derived from the observed latency.
+     */
+    public Duration getFixedDelay() {
+        return fixedDelay;
+    }
+
+    /**
+     * Get the lower bound of the hedging delay.
+     *
+     * @return minimum hedging delay.
+     */
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    /**
+     * Get the upper bound of the hedging delay. This delay is used as long as no latency has been observed for a target.
+     *
+     * @return maximum hedging delay.
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Check whether a request using the given HTTP method may be hedged.
+     *
+     * @param method HTTP method of the request.
+     * @return {@code true} if the method is idempotent, {@code false} otherwise.
+     * @throws NullPointerException in case {@code method} is {@code null}.
+     */
+    public boolean isHedgeable(final String method) {
+        return RetryPolicy.isIdempotent(method);
+    }
+
+    /**
+     * Compute the delay after which the next hedged attempt is fired.
+     *
+     * @param observedLatency the {@link #getPercentile() percentile} of the latency observed for the target, or
+     * {@code null} if no latency has been observed yet.
+     * @return hedging delay, bounded by the minimum and maximum delay.
+     */
+    public Duration hedgingDelay(final Duration observedLatency) {
+        if (fixedDelay != null) {
+            return fixedDelay;
+        }
+        if (observedLatency == null || observedLatency.compareTo(maxDelay) > 0) {
+            return maxDelay;
+        }
+        return observedLatency.compareTo(minDelay) < 0 ? minDelay : observedLatency;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HedgingPolicy)) {
+            return false;
+        }
+        final HedgingPolicy other = (HedgingPolicy) o;
+        return maxAttempts == other.maxAttempts
+                && Double.compare(percentile, other.percentile) == 0
+                && Objects.equals(fixedDelay, other.fixedDelay)
+                && minDelay.equals(other.minDelay)
+                && maxDelay.equals(other.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAttempts, percentile, fixedDelay, minDelay, maxDelay);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy{maxAttempts=" + maxAttempts + ", percentile=" + percentile + ", fixedDelay=" + fixedDelay
+                + ", minDelay=" + minDelay + ", maxDelay=" + maxDelay + '}';
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy} instances.
+     * <p>
+     * The builder starts with the following defaults: at most 2 outstanding attempts, hedging after the 95th latency
+     * percentile, bounded by 10 milliseconds and 1 second.
+     * </p>
+     *
+     * @since 4.0
+     */
+    public static final class Builder {
+
+        private static final double DEFAULT_PERCENTILE = 95.0;
+        private static final double MAX_PERCENTILE = 100.0;
+        private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+        private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+
+        private int maxAttempts = 2;
+        private double percentile = DEFAULT_PERCENTILE;
+        private Duration fixedDelay;
+        private Duration minDelay = DEFAULT_MIN_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+        /**
+         * Create a new builder initialized with the default values.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Set the maximum number of concurrently outstanding attempts, including the original one.
+         *
+         * @param maxAttempts maximum number of attempts, at least {@code 2}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code maxAttempts} is less than {@code 2}.
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 2) {
+                throw new IllegalArgumentException("maxAttempts must be at least 2");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set the latency percentile after which a hedged attempt is fired. Resets any previously set
+         * {@link #fixedDelay(Duration) fixed delay}.
+         *
+         * @param percentile latency percentile in the range {@code (0, 100)}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code percentile} is out of range.
+         */
+        public Builder percentile(final double percentile) {
+            if (!(percentile > 0.0 && percentile < MAX_PERCENTILE)) {
+                throw new IllegalArgumentException("percentile must be in the range (0, 100)");
+            }
+            this.percentile = percentile;
+            this.fixedDelay = null;
+            return this;
+        }
+
+        /**
+         * Set a fixed hedging delay instead of deriving it from the observed latency.
+         *
+         * @param fixedDelay fixed hedging delay. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code fixedDelay} is negative.
+         * @throws NullPointerException in case {@code fixedDelay} is {@code null}.
+         */
+        public Builder fixedDelay(final Duration fixedDelay) {
+            if (fixedDelay.isNegative()) {
+                throw new IllegalArgumentException("fixedDelay must not be negative");
+            }
+            this.fixedDelay = fixedDelay;
+            return this;
+        }
+
+        /**
+         * Set the lower bound of the hedging delay derived from the observed latency.
+         *
+         * @param minDelay minimum hedging delay. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code minDelay} is negative.
+         * @throws NullPointerException in case {@code minDelay} is {@code null}.
+         */
+        public Builder minDelay(final Duration minDelay) {
+            if (minDelay.isNegative()) {
+                throw new IllegalArgumentException("minDelay must not be negative");
+            }
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Set the upper bound of the hedging delay derived from the observed latency.
+         *
+         * @param maxDelay maximum hedging delay. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code maxDelay} is negative.
+         * @throws NullPointerException in case {@code maxDelay} is {@code null}.
+         */
+        public Builder maxDelay(final Duration maxDelay) {
+            if (maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must not be negative");
+            }
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Build a new {@link HedgingPolicy} from the values set on this builder.
+         *
+         * @return new hedging policy.
+         * @throws IllegalStateException in case the maximum delay is less than the minimum delay.
+         */
+        public HedgingPolicy build() {
+            if (maxDelay.compareTo(minDelay) < 0) {
+                throw new IllegalStateException("maxDelay must not be less than minDelay");
+            }
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * Client-side generation of {@link jakarta.ws.rs.core.HttpHeaders#IDEMPOTENCY_KEY Idempotency-Key} headers.
+ * <p>
+ * Once registered with a {@link Client} or {@link WebTarget}, the feature adds an {@code Idempotency-Key} header with a
+ * newly generated key to every request using one of the configured methods and not carrying the header already. The key
+ * is generated once per invocation; as request filters are executed once per invocation, all attempts made by a
+ * {@link RetryPolicy} or a {@link HedgingPolicy} carry the same key, so a server supporting idempotency keys, e.g. by
+ * means of the {@link jakarta.ws.rs.container.IdempotencyFeature}, executes the request at most once.
+ * </p>
+ * <p>
+ * A retry policy retries non-idempotent requests only if {@link RetryPolicy.Builder#retryNonIdempotent(boolean)
+ * explicitly allowed}, which is safe with this feature registered:
+ * </p>
+ *
+ * <pre>
+ * Client client = ClientBuilder.newBuilder()
+ *         .register(IdempotencyKeyFeature.builder().build())
+ *         .property(RetryPolicy.PROPERTY, new RetryPolicy.Builder().retryNonIdempotent(true).build())
+ *         .build();
+ * </pre>
+ *
+ * @since 4.0
+ */
+public interface IdempotencyKeyFeature extends Feature {
+
+    /**
+     * Creates a new {@code IdempotencyKeyFeature.Builder} instance.
+     *
+     * @return {@link Builder} for building new {@link IdempotencyKeyFeature} instances.
+     */
+    static Builder builder() {
+        return RuntimeDelegate.getInstance().createIdempotencyKeyFeatureBuilder();
+    }
+
+    /**
+     * Builder for {@link IdempotencyKeyFeature} instances.
+     * <p>
+     * If no methods are set, keys are added to {@code POST} and {@code PATCH} requests. If no key generator is set, keys
+     * are random UUIDs.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface Builder {
+
+        /**
+         * Sets the HTTP methods of the requests to add keys to.
+         *
+         * @param methods HTTP methods, e.g. {@link jakarta.ws.rs.HttpMethod#POST}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if no method is given.
+         */
+        Builder methods(String... methods);
+
+        /**
+         * Sets the generator of keys.
+         * <p>
+         * The generator is invoked concurrently and MUST return a unique, non-empty key on every invocation.
+         * </p>
+         *
+         * @param keyGenerator key generator.
+         * @return the updated builder.
+         * @throws NullPointerException if {@code keyGenerator} is {@code null}.
+         */
+        Builder keyGenerator(Supplier<String> keyGenerator);
+
+        /**
+         * Builds a new {@link IdempotencyKeyFeature} instance using the provided property values.
+         *
+         * @return {@link IdempotencyKeyFeature} instance built from the provided property values.
+         */
+        IdempotencyKeyFeature build();
+    }
+}
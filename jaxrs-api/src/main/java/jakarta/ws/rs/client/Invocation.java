@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -23,6 +23,7 @@ import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.Deadline;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -109,6 +110,21 @@ public interface Invocation {
          */
         public Invocation build(String method, Entity<?> entity);
 
+        /**
+         * Prepare a reusable, thread-safe request invocation using an arbitrary request method name.
+         * <p>
+         * Unlike an {@link Invocation} built by one of the {@code build...} methods, the returned
+         * {@link PreparedInvocation} is guaranteed to be safe for concurrent use and accepts a request entity and URI template
+         * values per invocation. The target, request method, headers and accepted media types as well as the configuration
+         * of this builder are frozen; subsequent changes to this builder do not affect the prepared invocation.
+         * </p>
+         *
+         * @param method request method name.
+         * @return prepared invocation encapsulating the request template.
+         * @since 4.0
+         */
+        public PreparedInvocation prepare(String method);
+
         /**
          * Build a GET request invocation.
          *
@@ -278,6 +294,88 @@ public interface Invocation {
          */
         public <T extends RxInvoker> T rx(Class<T> clazz);
 
+        /**
+         * Access the reactive invoker based on {@link java.util.concurrent.Flow.Publisher}.
+         * <p>
+         * Same as calling {@link #rx(Class) rx(FlowRxInvoker.class)}. Unlike other reactive invokers, the
+         * {@link FlowRxInvoker} is supported by all JAX-RS implementations without registering an {@link RxInvokerProvider}.
+         * </p>
+         *
+         * @return reactive invoker instance.
+         * @since 4.0
+         * @see FlowRxInvoker
+         */
+        public default FlowRxInvoker flow() {
+            return rx(FlowRxInvoker.class);
+        }
+
+        /**
+         * Set the {@link RetryPolicy} to apply to the request represented by this invocation builder.
+         * <p>
+         * Same as calling {@link #property(String, Object) property(RetryPolicy.PROPERTY, policy)}. A policy set here takes
+         * precedence over a policy configured on the {@link WebTarget} or the {@link Client}.
+         * </p>
+         *
+         * @param policy retry policy. {@code null} removes a previously set policy from this invocation builder.
+         * @return the updated builder.
+         * @see RetryPolicy#PROPERTY
+         * @since 4.0
+         */
+        public default Builder retry(final RetryPolicy policy) {
+            return property(RetryPolicy.PROPERTY, policy);
+        }
+
+        /**
+         * Set the {@link HedgingPolicy} to apply to the request represented by this invocation builder.
+         * <p>
+         * Same as calling {@link #property(String, Object) property(HedgingPolicy.PROPERTY, policy)}. A policy set here takes
+         * precedence over a policy configured on the {@link WebTarget} or the {@link Client}.
+         * </p>
+         *
+         * @param policy hedging policy. {@code null} removes a previously set policy from this invocation builder.
+         * @return the updated builder.
+         * @see HedgingPolicy#PROPERTY
+         * @since 4.0
+         */
+        public default Builder hedge(final HedgingPolicy policy) {
+            return property(HedgingPolicy.PROPERTY, policy);
+        }
+
+        /**
+         * Set the end-to-end {@link Deadline} of the request represented by this invocation builder.
+         * <p>
+         * Same as calling {@link #property(String, Object) property(Deadline.PROPERTY, deadline)}. The deadline bounds the
+         * total time of the invocation and is propagated to the server in the deadline request header, see {@link Deadline}.
+         * A deadline set here takes precedence over a deadline inherited from the server request being processed.
+         * </p>
+         *
+         * @param deadline request deadline. {@code null} removes a previously set deadline from this invocation builder.
+         * @return the updated builder.
+         * @see Deadline#PROPERTY
+         * @since 4.0
+         */
+        public default Builder deadline(final Deadline deadline) {
+            return property(Deadline.PROPERTY, deadline);
+        }
+
+        /**
+         * Set the thread on which the asynchronous invocation of the request represented by this invocation builder is
+         * completed.
+         * <p>
+         * Same as calling {@link #property(String, Object) property(CallbackExecution.PROPERTY, mode)}. A mode set here
+         * takes precedence over a mode configured on the {@link WebTarget} or the {@link Client}. Note that
+         * {@link CallbackExecution#DIRECT} is safe for non-blocking callbacks only.
+         * </p>
+         *
+         * @param mode callback execution mode. {@code null} removes a previously set mode from this invocation builder.
+         * @return the updated builder.
+         * @see CallbackExecution#PROPERTY
+         * @since 4.0
+         */
+        public default Builder callbackExecution(final CallbackExecution mode) {
+            return property(CallbackExecution.PROPERTY, mode);
+        }
+
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,10 +18,14 @@ package jakarta.ws.rs.client;
 
 /**
  * Callback that can be implemented to receive the asynchronous processing events from the invocation processing.
+ * <p>
+ * The thread invoking the callback methods is determined by the configured {@link CallbackExecution} mode.
+ * </p>
  *
  * @param <RESPONSE> response type. It can be either a general-purpose {@link jakarta.ws.rs.core.Response} or the
  * anticipated response entity type.
  * @author Marek Potociar
+ * @see CallbackExecution
  * @since 2.0
  */
 public interface InvocationCallback<RESPONSE> {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * Client-side load balancing of requests across the replicas of a service.
+ * <p>
+ * The feature maps <em>logical authorities</em> to sets of endpoints. Once registered with a {@link Client} or
+ * {@link WebTarget}, each request whose URI {@link URI#getAuthority() authority} is a logical authority is sent to one of
+ * the endpoints of that authority, selected per request by the configured {@link Strategy}: the scheme, host and port of
+ * the request URI are replaced by those of the selected endpoint, while path and query are kept. Requests to any other
+ * authority are not affected.
+ * </p>
+ * <p>
+ * The endpoints of each logical authority are provided by a {@link Supplier}, which is invoked when the first request to
+ * the authority is made and then periodically in the configured refresh interval, so the set of endpoints can follow
+ * changes of the deployment without an additional balancer hop. The supplier SHOULD return quickly, e.g. from a local
+ * cache; it is invoked on the {@link ClientBuilder#scheduledExecutorService(java.util.concurrent.ScheduledExecutorService)
+ * scheduled executor service} of the client. If the supplier fails, the previous set of endpoints stays in effect.
+ * </p>
+ * <p>
+ * If outlier ejection is enabled, an endpoint failing the configured number of requests in a row is ejected from the
+ * selection for the ejection duration. A response with a {@code 5xx} status code as well as a
+ * {@link jakarta.ws.rs.ProcessingException} raised while sending the request or receiving the response count as failure.
+ * If a {@link RetryPolicy} is in effect, retry attempts SHOULD select an endpoint different from the failed one. An
+ * invocation for which no endpoint is available fails with a {@link jakarta.ws.rs.ProcessingException}.
+ * </p>
+ *
+ * <pre>
+ * LoadBalancingFeature balancing = LoadBalancingFeature.builder()
+ *         .endpoints("orders", () -&gt; registry.lookup("orders"))
+ *         .strategy(LoadBalancingFeature.Strategy.POWER_OF_TWO_CHOICES)
+ *         .outlierEjection(5, Duration.ofSeconds(30), 0.5)
+ *         .build();
+ * Client client = ClientBuilder.newBuilder().register(balancing).build();
+ * Order order = client.target("http://orders/orders/{id}").resolveTemplate("id", id).request().get(Order.class);
+ * </pre>
+ *
+ * @since 4.0
+ */
+public interface LoadBalancingFeature extends Feature {
+
+    /**
+     * Creates a new {@code LoadBalancingFeature.Builder} instance.
+     *
+     * @return {@link Builder} for building new {@link LoadBalancingFeature} instances.
+     */
+    static Builder builder() {
+        return RuntimeDelegate.getInstance().createLoadBalancingFeatureBuilder();
+    }
+
+    /**
+     * Returns a snapshot of the state of all endpoints of all logical authorities this feature has seen requests for so
+     * far.
+     *
+     * @return immutable map of endpoint states, keyed by logical authority.
+     */
+    Map<String, List<EndpointStatus>> getEndpoints();
+
+    /**
+     * Strategy for selecting the endpoint of a request.
+     *
+     * @since 4.0
+     */
+    enum Strategy {
+
+        /**
+         * Endpoints are selected in turn.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Two endpoints are chosen at random and the one with fewer requests in flight is selected. This adapts to
+         * endpoints of different speed at the cost of tracking requests in flight per endpoint.
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    /**
+     * Snapshot of the state of a single endpoint.
+     *
+     * @since 4.0
+     */
+    interface EndpointStatus {
+
+        /**
+         * Returns the URI of the endpoint.
+         *
+         * @return endpoint URI.
+         */
+        URI getUri();
+
+        /**
+         * Returns the number of requests currently in flight to the endpoint.
+         *
+         * @return number of requests in flight.
+         */
+        int getInFlight();
+
+        /**
+         * Returns whether the endpoint is currently ejected from the selection.
+         *
+         * @return {@code true} if the endpoint is ejected, {@code false} otherwise.
+         */
+        boolean isEjected();
+    }
+
+    /**
+     * Builder for {@link LoadBalancingFeature} instances.
+     * <p>
+     * If no strategy is set, {@link Strategy#POWER_OF_TWO_CHOICES} is used. If no refresh interval is set, an
+     * implementation-specific default is used. Outlier ejection is disabled unless configured.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface Builder {
+
+        /**
+         * Registers the endpoints of a logical authority.
+         *
+         * @param authority logical authority, as used in request URIs, e.g. {@code orders} or {@code orders:8080}.
+         * @param endpoints supplier of the absolute URIs of the current endpoints; only scheme, host and port of the URIs
+         * are used.
+         * @return the updated builder.
+         * @throws NullPointerException if any of the arguments is {@code null}.
+         */
+        Builder endpoints(String authority, Supplier<? extends Collection<URI>> endpoints);
+
+        /**
+         * Sets the strategy for selecting the endpoint of a request.
+         *
+         * @param strategy selection strategy.
+         * @return the updated builder.
+         * @throws NullPointerException if {@code strategy} is {@code null}.
+         */
+        Builder strategy(Strategy strategy);
+
+        /**
+         * Enables passive outlier ejection.
+         *
+         * @param consecutiveFailures number of failed requests in a row, at least {@code 1}, after which an endpoint is
+         * ejected.
+         * @param ejectionDuration time an ejected endpoint is excluded from the selection.
+         * @param maxEjectedRatio maximum share of the endpoints of a logical authority, in the range {@code (0, 1]}, that
+         * may be ejected at the same time.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if any of the values is out of range.
+         * @throws NullPointerException if {@code ejectionDuration} is {@code null}.
+         */
+        Builder outlierEjection(int consecutiveFailures, Duration ejectionDuration, double maxEjectedRatio);
+
+        /**
+         * Sets the interval in which the endpoint suppliers are invoked.
+         *
+         * @param refreshInterval refresh interval. Must be positive.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code refreshInterval} is not positive.
+         * @throws NullPointerException if {@code refreshInterval} is {@code null}.
+         */
+        Builder refreshInterval(Duration refreshInterval);
+
+        /**
+         * Builds a new {@link LoadBalancingFeature} instance using the provided property values.
+         *
+         * @return {@link LoadBalancingFeature} instance built from the provided property values.
+         * @throws IllegalStateException if no endpoints have been registered.
+         */
+        LoadBalancingFeature build();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * A client request template that has been prepared once and can be invoked many times, concurrently.
+ * <p>
+ * A prepared invocation is obtained from {@link Invocation.Builder#prepare(String)}. It freezes the target URI template,
+ * the request method, the headers, the accepted media types and the configuration of the invocation builder at the time
+ * of preparation; later changes to the builder, its {@link WebTarget} or its {@link Client} do not affect it. The
+ * implementation performs all work that does not depend on the individual request, like parsing the URI template and
+ * serializing the headers, once during preparation.
+ * </p>
+ * <p>
+ * Each invocation supplies its own request entity and its own values for the templates remaining in the target URI, see
+ * {@link WebTarget#resolveTemplates(Map)}. Instances MUST be thread-safe: many threads may invoke the same prepared
+ * invocation concurrently, and implementations SHOULD keep the per-invocation allocation to a minimum.
+ * </p>
+ *
+ * <pre>
+ * PreparedInvocation getOrder = client.target("http://example.com/orders/{id}")
+ *         .request(MediaType.APPLICATION_JSON)
+ *         .header("Api-Key", key)
+ *         .prepare(HttpMethod.GET);
+ * ...
+ * // in many threads
+ * Order order = getOrder.invoke(Map.of("id", id), null, Order.class);
+ * </pre>
+ *
+ * @see Invocation.Builder#prepare(String)
+ * @since 4.0
+ */
+public interface PreparedInvocation {
+
+    /**
+     * Get the request method of this prepared invocation.
+     *
+     * @return request method name.
+     */
+    String getMethod();
+
+    /**
+     * Synchronously invoke the prepared request without template values and without request entity.
+     *
+     * @return the response.
+     * @throws IllegalStateException in case the target URI contains templates.
+     * @throws jakarta.ws.rs.ProcessingException in case the invocation processing has failed.
+     */
+    Response invoke();
+
+    /**
+     * Synchronously invoke the prepared request.
+     *
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @return the response.
+     * @throws IllegalArgumentException in case a template value is {@code null}.
+     * @throws IllegalStateException in case a template of the target URI has no value.
+     * @throws jakarta.ws.rs.ProcessingException in case the invocation processing has failed.
+     */
+    Response invoke(Map<String, Object> templateValues, Entity<?> entity);
+
+    /**
+     * Synchronously invoke the prepared request and convert the response entity to the given type.
+     *
+     * @param <T> response type.
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param responseType Java type the response entity will be converted to.
+     * @return the response entity.
+     * @throws IllegalArgumentException in case a template value is {@code null}.
+     * @throws IllegalStateException in case a template of the target URI has no value.
+     * @throws jakarta.ws.rs.ProcessingException in case the invocation processing has failed.
+     * @throws ResponseProcessingException in case processing of a received HTTP response fails.
+     * @throws jakarta.ws.rs.WebApplicationException in case the response status code of the response returned by the server
+     * is not {@link jakarta.ws.rs.core.Response.Status.Family#SUCCESSFUL successful} and the specified response type is not
+     * {@link Response}.
+     */
+    <T> T invoke(Map<String, Object> templateValues, Entity<?> entity, Class<T> responseType);
+
+    /**
+     * Synchronously invoke the prepared request and convert the response entity to the given generic type.
+     *
+     * @param <T> generic response type.
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param responseType representation of a generic Java type the response entity will be converted to.
+     * @return the response entity.
+     * @throws IllegalArgumentException in case a template value is {@code null}.
+     * @throws IllegalStateException in case a template of the target URI has no value.
+     * @throws jakarta.ws.rs.ProcessingException in case the invocation processing has failed.
+     * @throws ResponseProcessingException in case processing of a received HTTP response fails.
+     * @throws jakarta.ws.rs.WebApplicationException in case the response status code of the response returned by the server
+     * is not {@link jakarta.ws.rs.core.Response.Status.Family#SUCCESSFUL successful} and the specified response type is not
+     * {@link Response}.
+     */
+    <T> T invoke(Map<String, Object> templateValues, Entity<?> entity, GenericType<T> responseType);
+
+    /**
+     * Asynchronously invoke the prepared request.
+     * <p>
+     * Errors are signalled by completing the returned stage exceptionally with the exceptions listed for
+     * {@link #invoke(Map, Entity)}.
+     * </p>
+     *
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @return completion stage of the response.
+     */
+    CompletionStage<Response> submit(Map<String, Object> templateValues, Entity<?> entity);
+
+    /**
+     * Asynchronously invoke the prepared request and convert the response entity to the given type.
+     * <p>
+     * Errors are signalled by completing the returned stage exceptionally with the exceptions listed for
+     * {@link #invoke(Map, Entity, Class)}.
+     * </p>
+     *
+     * @param <T> response type.
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param responseType Java type the response entity will be converted to.
+     * @return completion stage of the response entity.
+     */
+    <T> CompletionStage<T> submit(Map<String, Object> templateValues, Entity<?> entity, Class<T> responseType);
+
+    /**
+     * Asynchronously invoke the prepared request and convert the response entity to the given generic type.
+     * <p>
+     * Errors are signalled by completing the returned stage exceptionally with the exceptions listed for
+     * {@link #invoke(Map, Entity, GenericType)}.
+     * </p>
+     *
+     * @param <T> generic response type.
+     * @param templateValues values of the templates in the target URI, keyed by template name. May be empty.
+     * @param entity request entity, including it's full {@link jakarta.ws.rs.core.Variant} information, or {@code null} if
+     * the request has no entity.
+     * @param responseType representation of a generic Java type the response entity will be converted to.
+     * @return completion stage of the response entity.
+     */
+    <T> CompletionStage<T> submit(Map<String, Object> templateValues, Entity<?> entity, GenericType<T> responseType);
+}
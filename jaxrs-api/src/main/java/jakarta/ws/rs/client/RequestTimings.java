@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Breakdown of the time spent on the transport of a single request.
+ * <p>
+ * Timings are recorded only if the {@value #PROPERTY} property is set to {@code true} on the {@link Client}, the
+ * {@link WebTarget} or the {@link Invocation.Builder}, the latter taking precedence, and are then available to
+ * {@link ClientResponseFilter}s via {@link ClientResponseContext#getTimings()}. If the request was sent over a
+ * {@link #isConnectionReused() reused} connection, the durations of the connection set-up phases are
+ * {@link Duration#ZERO zero}. If the request was retried, the timings are those of the attempt that produced the
+ * response.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe.
+ * </p>
+ *
+ * @see ClientStatistics
+ * @since 4.0
+ */
+public final class RequestTimings {
+
+    /**
+     * Name of the configuration property enabling the recording of request timings.
+     * <p>
+     * The value MUST be a {@link Boolean} or its string representation. If absent, timings are not recorded.
+     * </p>
+     */
+    public static final String PROPERTY = "jakarta.ws.rs.client.RequestTimings";
+
+    private final boolean connectionReused;
+    private final Duration dnsLookup;
+    private final Duration connect;
+    private final Duration tlsHandshake;
+    private final Duration timeToFirstByte;
+
+    /**
+     * Create a new timing breakdown.
+     *
+     * @param connectionReused whether the request was sent over a connection taken from the pool.
+     * @param dnsLookup time spent on resolving the host name.
+     * @param connect time spent on establishing the connection, excluding the DNS lookup.
+     * @param tlsHandshake time spent on the TLS handshake.
+     * @param timeToFirstByte time from the request having been sent completely until the first byte of the response was
+     * received.
+     * @throws IllegalArgumentException in case any of the durations is {@code null} or negative, or in case a connection
+     * set-up duration is not zero although the connection was reused.
+     */
+    public RequestTimings(final boolean connectionReused, final Duration dnsLookup, final Duration connect,
+            final Duration tlsHandshake, final Duration timeToFirstByte) {
+        checkDuration(dnsLookup, "dnsLookup");
+        checkDuration(connect, "connect");
+        checkDuration(tlsHandshake, "tlsHandshake");
+        checkDuration(timeToFirstByte, "timeToFirstByte");
+        if (connectionReused && !(dnsLookup.isZero() && connect.isZero() && tlsHandshake.isZero())) {
+            throw new IllegalArgumentException("connection set-up durations must be zero for a reused connection");
+        }
+        this.connectionReused = connectionReused;
+        this.dnsLookup = dnsLookup;
+        this.connect = connect;
+        this.tlsHandshake = tlsHandshake;
+        this.timeToFirstByte = timeToFirstByte;
+    }
+
+    private static void checkDuration(final Duration duration, final String name) {
+        if (duration == null) {
+            throw new IllegalArgumentException(name + " must not be null");
+        }
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+    }
+
+    /**
+     * Get whether the request was sent over a connection taken from the pool.
+     *
+     * @return {@code true} if the connection was reused, {@code false} if it was established for the request.
+     */
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    /**
+     * Get the time spent on resolving the host name.
+     *
+     * @return DNS lookup duration.
+     */
+    public Duration getDnsLookup() {
+        return dnsLookup;
+    }
+
+    /**
+     * Get the time spent on establishing the connection, excluding the DNS lookup.
+     *
+     * @return connect duration.
+     */
+    public Duration getConnect() {
+        return connect;
+    }
+
+    /**
+     * Get the time spent on the TLS handshake.
+     *
+     * @return TLS handshake duration, {@link Duration#ZERO zero} for plain connections.
+     */
+    public Duration getTlsHandshake() {
+        return tlsHandshake;
+    }
+
+    /**
+     * Get the time from the request having been sent completely until the first byte of the response was received.
+     *
+     * @return time to first byte.
+     */
+    public Duration getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    /**
+     * Get the total time spent on setting up the connection.
+     *
+     * @return sum of DNS lookup, connect and TLS handshake durations.
+     */
+    public Duration getConnectionSetup() {
+        return dnsLookup.plus(connect).plus(tlsHandshake);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RequestTimings)) {
+            return false;
+        }
+        final RequestTimings other = (RequestTimings) o;
+        return connectionReused == other.connectionReused
+                && dnsLookup.equals(other.dnsLookup)
+                && connect.equals(other.connect)
+                && tlsHandshake.equals(other.tlsHandshake)
+                && timeToFirstByte.equals(other.timeToFirstByte);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(connectionReused, dnsLookup, connect, tlsHandshake, timeToFirstByte);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestTimings{connectionReused=" + connectionReused + ", dnsLookup=" + dnsLookup + ", connect=" + connect
+                + ", tlsHandshake=" + tlsHandshake + ", timeToFirstByte=" + timeToFirstByte + '}';
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.WebApplicationException;
+
+import static jakarta.ws.rs.core.Response.Status.BAD_GATEWAY;
+import static jakarta.ws.rs.core.Response.Status.GATEWAY_TIMEOUT;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+
+/**
+ * Declarative retry policy for client request invocations.
+ * <p>
+ * A retry policy describes whether, how often and after which delay a failed invocation is re-attempted by the client
+ * runtime. The delay grows exponentially with each attempt, starting at the {@link Builder#initialBackoff(Duration)
+ * initial backoff}, multiplied by the {@link Builder#multiplier(double) multiplier} for every further attempt and capped
+ * by the {@link Builder#maxBackoff(Duration) maximum backoff}. A random {@link Builder#jitter(double) jitter} is applied
+ * to each delay to prevent many clients from retrying in lock-step. In case the server provided a {@code Retry-After}
+ * header with a {@link ServiceUnavailableException}, the client waits at least as long as requested by the server.
+ * </p>
+ * <p>
+ * A policy is enabled by setting it as the value of the {@value #PROPERTY} property on a {@link Client}, a
+ * {@link WebTarget} or an {@link Invocation.Builder}, the latter taking precedence:
+ * </p>
+ *
+ * <pre>
+ * RetryPolicy policy = new RetryPolicy.Builder()
+ *         .maxAttempts(4)
+ *         .initialBackoff(Duration.ofMillis(50))
+ *         .build();
+ *
+ * client.target("http://example.com/orders").request().retry(policy).get();
+ * </pre>
+ * <p>
+ * Unless {@link Builder#retryNonIdempotent(boolean) explicitly allowed}, only requests using an idempotent HTTP method
+ * ({@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT}, {@code DELETE}, {@code TRACE}) are retried. Implementations
+ * MUST NOT retry an invocation once a response entity has been handed to the application. Request filters and writer
+ * interceptors are executed once per invocation; every attempt sends the request as produced by the first execution of
+ * the filter chain.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe and thus can be shared by many invocations.
+ * </p>
+ *
+ * @see HedgingPolicy
+ * @see Invocation.Builder#retry(RetryPolicy)
+ * @since 4.0
+ */
+public final class RetryPolicy {
+
+    /**
+     * Name of the configuration property holding the {@code RetryPolicy} to apply to invocations.
+     * <p>
+     * The property can be set on a {@link Client}, a {@link WebTarget} or an {@link Invocation.Builder}. The value MUST be
+     * an instance of {@code RetryPolicy}. If the property is absent, failed invocations are not retried.
+     * </p>
+     */
+    public static final String PROPERTY = "jakarta.ws.rs.client.RetryPolicy";
+
+    private static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, "TRACE")));
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final double jitter;
+    private final boolean retryAfterHonored;
+    private final boolean retryNonIdempotent;
+    private final Set<Integer> retryableStatuses;
+
+    private RetryPolicy(final Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryAfterHonored = builder.retryAfterHonored;
+        this.retryNonIdempotent = builder.retryNonIdempotent;
+        this.retryableStatuses = Collections.unmodifiableSet(new HashSet<>(builder.retryableStatuses));
+    }
+
+    /**
+     * Get the maximum number of attempts, including the initial one.
+     *
+     * @return maximum number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Get the backoff before the first retry.
+     *
+     * @return initial backoff.
+     */
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Get the upper bound of the backoff between two attempts.
+     *
+     * @return maximum backoff.
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Get the factor the backoff is multiplied with after each attempt.
+     *
+     * @return backoff multiplier.
+     */
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    /**
+     * Get the jitter factor in the range {@code [0, 1]}. A value of {@code 0} disables jitter, a value of {@code 1} picks
+     * the delay uniformly between zero and the computed backoff ("full jitter").
+     *
+     * @return jitter factor.
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Whether a {@code Retry-After} header sent along with a {@link ServiceUnavailableException} is honored.
+     *
+     * @return {@code true} if the server-provided retry time is honored, {@code false} otherwise.
+     */
+    public boolean isRetryAfterHonored() {
+        return retryAfterHonored;
+    }
+
+    /**
+     * Whether requests using a non-idempotent HTTP method, like {@code POST} or {@code PATCH}, are retried, too.
+     *
+     * @return {@code true} if non-idempotent requests are retried, {@code false} otherwise.
+     */
+    public boolean isRetryNonIdempotent() {
+        return retryNonIdempotent;
+    }
+
+    /**
+     * Get the HTTP status codes which are considered transient and hence retryable.
+     *
+     * @return immutable set of retryable status codes.
+     */
+    public Set<Integer> getRetryableStatuses() {
+        return retryableStatuses;
+    }
+
+    /**
+     * Check whether a request using the given HTTP method may be retried according to this policy at all.
+     *
+     * @param method HTTP method of the request.
+     * @return {@code true} if the method is idempotent or non-idempotent requests are allowed to be retried.
+     * @throws NullPointerException in case {@code method} is {@code null}.
+     */
+    public boolean isRetryable(final String method) {
+        return retryNonIdempotent || isIdempotent(method);
+    }
+
+    static boolean isIdempotent(final String method) {
+        return IDEMPOTENT_METHODS.contains(method.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Check whether another attempt is to be made after an attempt received a response with the given status.
+     *
+     * @param method HTTP method of the request.
+     * @param attempts number of attempts performed so far, including the initial one.
+     * @param status HTTP status code of the response received by the last attempt.
+     * @return {@code true} if the invocation is to be retried, {@code false} otherwise.
+     */
+    public boolean shouldRetry(final String method, final int attempts, final int status) {
+        return attempts < maxAttempts && isRetryable(method) && retryableStatuses.contains(status);
+    }
+
+    /**
+     * Check whether another attempt is to be made after an attempt failed with the given exception.
+     * <p>
+     * A {@link WebApplicationException} is retryable if its response status is {@link #getRetryableStatuses()
+     * retryable}. Any other {@link ProcessingException}, like an I/O error or a connect timeout, is considered transient
+     * unless it is a {@link ResponseProcessingException}, which indicates a failure processing an already received
+     * response.
+     * </p>
+     *
+     * @param method HTTP method of the request.
+     * @param attempts number of attempts performed so far, including the initial one.
+     * @param failure exception the last attempt failed with.
+     * @return {@code true} if the invocation is to be retried, {@code false} otherwise.
+     */
+    public boolean shouldRetry(final String method, final int attempts, final Throwable failure) {
+        if (failure instanceof WebApplicationException) {
+            return shouldRetry(method, attempts, ((WebApplicationException) failure).getResponse().getStatus());
+        }
+        return attempts < maxAttempts && isRetryable(method)
+                && failure instanceof ProcessingException && !(failure instanceof ResponseProcessingException);
+    }
+
+    /**
+     * Compute the delay before the next attempt, including jitter.
+     *
+     * @param attempts number of attempts performed so far, including the initial one. Must be positive.
+     * @return delay to wait before the next attempt.
+     * @throws IllegalArgumentException in case {@code attempts} is not positive.
+     */
+    public Duration delayBefore(final int attempts) {
+        if (attempts < 1) {
+            throw new IllegalArgumentException("attempts must be positive");
+        }
+        final double backoff = Math.min(maxBackoff.toNanos(),
+                initialBackoff.toNanos() * Math.pow(multiplier, attempts - 1));
+        final double jittered = backoff * (1.0 - jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos((long) jittered);
+    }
+
+    /**
+     * Compute the delay before the next attempt, honoring the server-provided retry time if the last attempt failed with a
+     * {@link ServiceUnavailableException} carrying a {@code Retry-After} header.
+     * <p>
+     * If the retry time is honored, the returned delay is the larger of the jittered backoff and the time remaining until
+     * the retry time; it is <em>not</em> capped by the maximum backoff.
+     * </p>
+     *
+     * @param attempts number of attempts performed so far, including the initial one. Must be positive.
+     * @param failure exception the last attempt failed with, may be {@code null}.
+     * @param requestTime time the last attempt was sent, used to resolve a {@code Retry-After} interval.
+     * @return delay to wait before the next attempt.
+     * @throws IllegalArgumentException in case {@code attempts} is not positive.
+     * @see ServiceUnavailableException#getRetryTime(Date)
+     */
+    public Duration delayBefore(final int attempts, final Throwable failure, final Date requestTime) {
+        final Duration backoff = delayBefore(attempts);
+        if (!retryAfterHonored || !(failure instanceof ServiceUnavailableException)) {
+            return backoff;
+        }
+        final ServiceUnavailableException unavailable = (ServiceUnavailableException) failure;
+        if (!unavailable.hasRetryAfter()) {
+            return backoff;
+        }
+        final Date retryTime = unavailable.getRetryTime(requestTime);
+        if (retryTime == null) {
+            return backoff;
+        }
+        final Duration retryAfter = Duration.ofMillis(retryTime.getTime() - System.currentTimeMillis());
+        return retryAfter.compareTo(backoff) > 0 ? retryAfter : backoff;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RetryPolicy)) {
+            return false;
+        }
+        final RetryPolicy other = (RetryPolicy) o;
+        return maxAttempts == other.maxAttempts
+                && Double.compare(multiplier, other.multiplier) == 0
+                && Double.compare(jitter, other.jitter) == 0
+                && retryAfterHonored == other.retryAfterHonored
+                && retryNonIdempotent == other.retryNonIdempotent
+                && initialBackoff.equals(other.initialBackoff)
+                && maxBackoff.equals(other.maxBackoff)
+                && retryableStatuses.equals(other.retryableStatuses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxAttempts, initialBackoff, maxBackoff, multiplier, jitter, retryAfterHonored, retryNonIdempotent,
+                retryableStatuses);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts + ", initialBackoff=" + initialBackoff + ", maxBackoff=" + maxBackoff
+                + ", multiplier=" + multiplier + ", jitter=" + jitter + ", retryAfterHonored=" + retryAfterHonored
+                + ", retryNonIdempotent=" + retryNonIdempotent + ", retryableStatuses=" + retryableStatuses + '}';
+    }
+
+    /**
+     * Builder for {@link RetryPolicy} instances.
+     * <p>
+     * The builder starts with the following defaults: at most 3 attempts, an initial backoff of 100 milliseconds doubled
+     * after each attempt up to 10 seconds, a jitter of {@code 0.5}, {@code Retry-After} honored, only idempotent requests
+     * retried, and status codes {@code 502}, {@code 503} and {@code 504} considered retryable.
+     * </p>
+     *
+     * @since 4.0
+     */
+    public static final class Builder {
+
+        private static final int DEFAULT_MAX_ATTEMPTS = 3;
+        private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+        private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(10);
+        private static final double DEFAULT_MULTIPLIER = 2.0;
+        private static final double DEFAULT_JITTER = 0.5;
+
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+        private boolean retryAfterHonored = true;
+        private boolean retryNonIdempotent;
+        private Set<Integer> retryableStatuses = new HashSet<>(Arrays.asList(
+                BAD_GATEWAY.getStatusCode(), SERVICE_UNAVAILABLE.getStatusCode(), GATEWAY_TIMEOUT.getStatusCode()));
+
+        /**
+         * Create a new builder initialized with the default values.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Create a new builder initialized with the values of an existing policy.
+         *
+         * @param policy the policy to copy the values from.
+         * @throws NullPointerException in case {@code policy} is {@code null}.
+         */
+        public Builder(final RetryPolicy policy) {
+            this.maxAttempts = policy.maxAttempts;
+            this.initialBackoff = policy.initialBackoff;
+            this.maxBackoff = policy.maxBackoff;
+            this.multiplier = policy.multiplier;
+            this.jitter = policy.jitter;
+            this.retryAfterHonored = policy.retryAfterHonored;
+            this.retryNonIdempotent = policy.retryNonIdempotent;
+            this.retryableStatuses = new HashSet<>(policy.retryableStatuses);
+        }
+
+        /**
+         * Set the maximum number of attempts, including the initial one. A value of {@code 1} disables retries.
+         *
+         * @param maxAttempts maximum number of attempts.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code maxAttempts} is not positive.
+         */
+        public Builder maxAttempts(final int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Set the backoff before the first retry.
+         *
+         * @param initialBackoff initial backoff. Must not be {@code null} or negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code initialBackoff} is negative.
+         * @throws NullPointerException in case {@code initialBackoff} is {@code null}.
+         */
+        public Builder initialBackoff(final Duration initialBackoff) {
+            if (initialBackoff.isNegative()) {
+                throw new IllegalArgumentException("initialBackoff must not be negative");
+            }
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        /**
+         * Set the upper bound of the backoff between two attempts.
+         *
+         * @param maxBackoff maximum backoff. Must not be {@code null} or negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code maxBackoff} is negative.
+         * @throws NullPointerException in case {@code maxBackoff} is {@code null}.
+         */
+        public Builder maxBackoff(final Duration maxBackoff) {
+            if (maxBackoff.isNegative()) {
+                throw new IllegalArgumentException("maxBackoff must not be negative");
+            }
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Set the factor the backoff is multiplied with after each attempt.
+         *
+         * @param multiplier backoff multiplier, at least {@code 1.0}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code multiplier} is less than {@code 1.0}.
+         */
+        public Builder multiplier(final double multiplier) {
+            if (!(multiplier >= 1.0)) {
+                throw new IllegalArgumentException("multiplier must be at least 1.0");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Set the jitter factor.
+         *
+         * @param jitter jitter factor in the range {@code [0, 1]}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException in case {@code jitter} is out of range.
+         * @see RetryPolicy#getJitter()
+         */
+        public Builder jitter(final double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0)) {
+                throw new IllegalArgumentException("jitter must be in the range [0, 1]");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Set whether a {@code Retry-After} header sent along with a {@link ServiceUnavailableException} is honored.
+         *
+         * @param retryAfterHonored {@code true} to honor the server-provided retry time.
+         * @return the updated builder.
+         */
+        public Builder retryAfterHonored(final boolean retryAfterHonored) {
+            this.retryAfterHonored = retryAfterHonored;
+            return this;
+        }
+
+        /**
+         * Set whether requests using a non-idempotent HTTP method are retried, too.
+         * <p>
+         * Enabling this is only safe if the server is able to detect duplicate requests.
+         * </p>
+         *
+         * @param retryNonIdempotent {@code true} to retry non-idempotent requests.
+         * @return the updated builder.
+         */
+        public Builder retryNonIdempotent(final boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+            return this;
+        }
+
+        /**
+         * Replace the HTTP status codes considered transient and hence retryable.
+         *
+         * @param statuses retryable status codes.
+         * @return the updated builder.
+         */
+        public Builder retryableStatuses(final int... statuses) {
+            final Set<Integer> set = new HashSet<>();
+            for (final int status : statuses) {
+                set.add(status);
+            }
+            this.retryableStatuses = set;
+            return this;
+        }
+
+        /**
+         * Build a new {@link RetryPolicy} from the values set on this builder.
+         *
+         * @return new retry policy.
+         * @throws IllegalStateException in case the maximum backoff is less than the initial backoff.
+         */
+        public RetryPolicy build() {
+            if (maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalStateException("maxBackoff must not be less than initialBackoff");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
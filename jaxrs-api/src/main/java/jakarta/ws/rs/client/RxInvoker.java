@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,12 +21,14 @@ import jakarta.ws.rs.core.GenericType;
 /**
  * Uniform interface for reactive invocation of HTTP methods. All reactive invokers in JAX-RS must implement this
  * interface. The type parameter {@code T} represents the Java type of an asynchronous computation. All JAX-RS
- * implementations MUST support the default reactive invoker based on {@link java.util.concurrent.CompletionStage}.
+ * implementations MUST support the default reactive invoker based on {@link java.util.concurrent.CompletionStage} as well
+ * as the reactive invoker based on {@link java.util.concurrent.Flow.Publisher}.
  *
  * @param <T> a type representing the asynchronous computation.
  * @author Marek Potociar
  * @author Santiago Pericas-Geertsen
  * @see jakarta.ws.rs.client.CompletionStageRxInvoker
+ * @see jakarta.ws.rs.client.FlowRxInvoker
  * @since 2.1
  */
 public interface RxInvoker<T> {
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Variant;
+
+/**
+ * An entity that has been serialized already, consisting of the immutable bytes of the message entity and their
+ * {@link Variant variant}.
+ * <p>
+ * A serialized entity is typically created by {@link Client#serialize(Entity)} and sent using
+ * {@link Entity#serialized(SerializedEntity)}. The pre-packaged entity provider for {@code SerializedEntity} writes the
+ * bytes as they are, without invoking any other {@link jakarta.ws.rs.ext.MessageBodyWriter}, and sets the
+ * {@code Content-Length} header to their {@link #getLength() length}. So sending the same payload to many targets, or
+ * re-sending it on retry, does not encode it again:
+ * </p>
+ *
+ * <pre>
+ * SerializedEntity order = client.serialize(Entity.json(newOrder));
+ * for (URI replica : replicas) {
+ *     client.target(replica).request().async().post(Entity.serialized(order));
+ * }
+ * </pre>
+ * <p>
+ * Instances of this class are immutable and thread-safe, so a single instance can be sent by any number of invocations
+ * concurrently.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class SerializedEntity {
+
+    private final byte[] bytes;
+    private final Variant variant;
+
+    /**
+     * Create a new serialized entity.
+     * <p>
+     * The bytes are copied, so later modifications of the array do not affect this instance.
+     * </p>
+     *
+     * @param bytes serialized message entity.
+     * @param mediaType media type of the serialized entity.
+     * @throws IllegalArgumentException in case {@code bytes} is {@code null}.
+     */
+    public SerializedEntity(final byte[] bytes, final MediaType mediaType) {
+        this(bytes, new Variant(mediaType, (Locale) null, null));
+    }
+
+    /**
+     * Create a new serialized entity.
+     * <p>
+     * The bytes are copied, so later modifications of the array do not affect this instance. If the variant has an
+     * {@link Variant#getEncoding() encoding}, the bytes MUST be encoded accordingly already; it is sent as the value of
+     * the {@code Content-Encoding} header.
+     * </p>
+     *
+     * @param bytes serialized message entity.
+     * @param variant variant of the serialized entity.
+     * @throws IllegalArgumentException in case {@code bytes} or {@code variant} is {@code null}.
+     */
+    public SerializedEntity(final byte[] bytes, final Variant variant) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("bytes must not be null");
+        }
+        if (variant == null) {
+            throw new IllegalArgumentException("variant must not be null");
+        }
+        this.bytes = bytes.clone();
+        this.variant = variant;
+    }
+
+    /**
+     * Get the variant of the serialized entity.
+     *
+     * @return entity variant information.
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Get the media type of the serialized entity.
+     *
+     * @return entity media type.
+     */
+    public MediaType getMediaType() {
+        return variant.getMediaType();
+    }
+
+    /**
+     * Get the length of the serialized entity.
+     *
+     * @return number of bytes, to be used as value of the {@code Content-Length} header.
+     */
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Get a read-only view of the serialized entity.
+     * <p>
+     * Each invocation returns a new buffer positioned at the first byte, so callers do not interfere with each other.
+     * </p>
+     *
+     * @return read-only buffer of the serialized entity.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Get a copy of the serialized entity.
+     *
+     * @return new array holding the serialized entity.
+     */
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    /**
+     * Write the serialized entity to an output stream.
+     *
+     * @param out stream to write to. The stream is neither flushed nor closed.
+     * @throws IOException in case writing to the stream failed.
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SerializedEntity)) {
+            return false;
+        }
+        final SerializedEntity other = (SerializedEntity) o;
+        return variant.equals(other.variant) && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * variant.hashCode() + Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "SerializedEntity{length=" + bytes.length + ", variant=" + variant + '}';
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.util.Objects;
+
+/**
+ * Snapshot of the TLS handshakes a {@link Client} has performed since it was built.
+ * <p>
+ * A handshake is counted as <em>resumed</em> if an existing TLS session was reused, i.e. the abbreviated handshake was
+ * performed, and as <em>full</em> otherwise. A high share of full handshakes on long-running clients indicates that the
+ * {@link ClientBuilder#tlsSessionCache(int, long, java.util.concurrent.TimeUnit) TLS session cache} is too small or its
+ * sessions expire too early.
+ * </p>
+ *
+ * @see Client#getTlsSessionStatistics()
+ * @since 4.0
+ */
+public final class TlsSessionStatistics {
+
+    private final long fullHandshakes;
+    private final long resumedHandshakes;
+
+    /**
+     * Create a new statistics snapshot.
+     *
+     * @param fullHandshakes number of full handshakes. Must not be negative.
+     * @param resumedHandshakes number of handshakes resuming an existing session. Must not be negative.
+     * @throws IllegalArgumentException in case any of the numbers is negative.
+     */
+    public TlsSessionStatistics(final long fullHandshakes, final long resumedHandshakes) {
+        if (fullHandshakes < 0) {
+            throw new IllegalArgumentException("fullHandshakes must not be negative");
+        }
+        if (resumedHandshakes < 0) {
+            throw new IllegalArgumentException("resumedHandshakes must not be negative");
+        }
+        this.fullHandshakes = fullHandshakes;
+        this.resumedHandshakes = resumedHandshakes;
+    }
+
+    /**
+     * Get the number of full handshakes.
+     *
+     * @return number of handshakes that established a new TLS session.
+     */
+    public long getFullHandshakes() {
+        return fullHandshakes;
+    }
+
+    /**
+     * Get the number of resumed handshakes.
+     *
+     * @return number of handshakes that resumed an existing TLS session.
+     */
+    public long getResumedHandshakes() {
+        return resumedHandshakes;
+    }
+
+    /**
+     * Get the total number of handshakes.
+     *
+     * @return sum of full and resumed handshakes.
+     */
+    public long getHandshakes() {
+        return fullHandshakes + resumedHandshakes;
+    }
+
+    /**
+     * Get the share of handshakes that resumed an existing TLS session.
+     *
+     * @return ratio of resumed handshakes in the range {@code [0, 1]}, or {@code 0} if no handshake has been performed.
+     */
+    public double getResumptionRatio() {
+        final long handshakes = getHandshakes();
+        return handshakes == 0 ? 0 : (double) resumedHandshakes / handshakes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TlsSessionStatistics)) {
+            return false;
+        }
+        final TlsSessionStatistics other = (TlsSessionStatistics) o;
+        return fullHandshakes == other.fullHandshakes && resumedHandshakes == other.resumedHandshakes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fullHandshakes, resumedHandshakes);
+    }
+
+    @Override
+    public String toString() {
+        return "TlsSessionStatistics{fullHandshakes=" + fullHandshakes + ", resumedHandshakes=" + resumedHandshakes + '}';
+    }
+}
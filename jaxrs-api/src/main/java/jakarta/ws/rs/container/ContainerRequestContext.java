@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,6 +25,7 @@ import java.util.Locale;
 import java.util.Map;
 
 import jakarta.ws.rs.core.Cookie;
+import jakarta.ws.rs.core.Deadline;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Request;
@@ -333,4 +334,35 @@ public interface ContainerRequestContext {
      * @throws IllegalStateException in case the method is invoked from a response filter.
      */
     public void abortWith(Response response);
+
+    /**
+     * Get the end-to-end deadline of the current request.
+     * <p>
+     * The runtime creates the deadline from the request header configured by {@link Deadline#HEADER_NAME_PROPERTY} and
+     * stores it as the {@value Deadline#PROPERTY} property. Client invocations made while processing the request inherit
+     * the deadline, so outbound calls do not outlive the caller's interest.
+     * </p>
+     *
+     * @return the deadline of the request or {@code null} if the request carries none.
+     * @see #setDeadline(Deadline)
+     * @since 4.0
+     */
+    public default Deadline getDeadline() {
+        final Object deadline = getProperty(Deadline.PROPERTY);
+        return deadline instanceof Deadline ? (Deadline) deadline : null;
+    }
+
+    /**
+     * Set the end-to-end deadline of the current request.
+     * <p>
+     * Same as calling {@link #setProperty(String, Object) setProperty(Deadline.PROPERTY, deadline)}. This allows a request
+     * filter to impose a deadline on requests not carrying one or to shorten the deadline requested by the client.
+     * </p>
+     *
+     * @param deadline new deadline of the request. {@code null} removes the deadline.
+     * @since 4.0
+     */
+    public default void setDeadline(final Deadline deadline) {
+        setProperty(Deadline.PROPERTY, deadline);
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.container;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Storage of the responses of requests carrying an {@link jakarta.ws.rs.core.HttpHeaders#IDEMPOTENCY_KEY
+ * Idempotency-Key} header, used by the {@link IdempotencyFeature}.
+ * <p>
+ * The cache tracks each key through two states: <em>reserved</em> while the first request carrying the key is executed,
+ * and <em>completed</em> once its response has been stored. The feature {@link #reserve(String, Duration) reserves} a
+ * key before executing a request; the request is executed only if the reservation succeeds, after which the feature
+ * either {@link #complete(String, CachedResponse) completes} the key with the response or {@link #release(String)
+ * releases} it in case the response is not to be stored.
+ * </p>
+ * <p>
+ * Implementations MUST be thread-safe and SHOULD bound the number of entries, evicting completed entries before their
+ * time to live has elapsed if necessary. Implementations backed by a remote store, shared by several server instances,
+ * de-duplicate requests across instances.
+ * </p>
+ *
+ * @see IdempotencyFeature.Builder#cache(IdempotencyCache)
+ * @since 4.0
+ */
+public interface IdempotencyCache {
+
+    /**
+     * Reserve a key, or get the response stored for it.
+     * <p>
+     * The returned stage
+     * </p>
+     * <ul>
+     * <li>is completed with {@code null} if the key was neither reserved nor completed: the caller now holds the
+     * reservation and MUST eventually {@link #complete(String, CachedResponse) complete} or {@link #release(String)
+     * release} the key;</li>
+     * <li>is completed with the stored response if the key has been completed;</li>
+     * <li>completes later if the key is reserved by another caller: with the stored response once that caller completes
+     * the key, or with {@code null} once it releases the key, handing the reservation over to a single waiting caller.</li>
+     * </ul>
+     * <p>
+     * Reservations not completed or released within the time to live expire, so a crashed execution does not block the key
+     * forever.
+     * </p>
+     *
+     * @param key cache key, derived from the {@code Idempotency-Key} header and the request by the feature.
+     * @param timeToLive time the reservation and, once completed, the stored response are retained.
+     * @return stage completing with the stored response, or with {@code null} if the caller holds the reservation.
+     */
+    CompletionStage<CachedResponse> reserve(String key, Duration timeToLive);
+
+    /**
+     * Store the response for a key reserved by the caller, completing all callers waiting for it.
+     *
+     * @param key reserved cache key.
+     * @param response response to store and to replay for subsequent requests carrying the key.
+     */
+    void complete(String key, CachedResponse response);
+
+    /**
+     * Release a key reserved by the caller without storing a response, so that a subsequent request carrying the key is
+     * executed again.
+     *
+     * @param key reserved cache key.
+     */
+    void release(String key);
+
+    /**
+     * Response stored by an {@link IdempotencyCache}, consisting of status, headers and entity bytes.
+     * <p>
+     * Instances of this class are immutable and thread-safe.
+     * </p>
+     *
+     * @since 4.0
+     */
+    final class CachedResponse {
+
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final byte[] entity;
+
+        /**
+         * Create a new cached response.
+         * <p>
+         * Headers and entity are copied, so later modifications of the arguments do not affect this instance.
+         * </p>
+         *
+         * @param status HTTP status code.
+         * @param headers response headers.
+         * @param entity serialized response entity, an empty array if the response has no entity.
+         * @throws IllegalArgumentException in case {@code status} is not a valid status code or {@code headers} or
+         * {@code entity} is {@code null}.
+         */
+        public CachedResponse(final int status, final Map<String, ? extends List<String>> headers, final byte[] entity) {
+            if (status < 100 || status > 999) {
+                throw new IllegalArgumentException("status must be a three-digit status code");
+            }
+            if (headers == null) {
+                throw new IllegalArgumentException("headers must not be null");
+            }
+            if (entity == null) {
+                throw new IllegalArgumentException("entity must not be null");
+            }
+            final Map<String, List<String>> copy = new LinkedHashMap<>();
+            headers.forEach((name, values) -> copy.put(name, Collections.unmodifiableList(new ArrayList<>(values))));
+            this.status = status;
+            this.headers = Collections.unmodifiableMap(copy);
+            this.entity = entity.clone();
+        }
+
+        /**
+         * Get the HTTP status code.
+         *
+         * @return status code.
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * Get the response headers.
+         *
+         * @return immutable map of header values, keyed by header name.
+         */
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Get a copy of the serialized response entity.
+         *
+         * @return entity bytes, an empty array if the response has no entity.
+         */
+        public byte[] getEntity() {
+            return entity.clone();
+        }
+
+        /**
+         * Get the length of the serialized response entity.
+         *
+         * @return number of entity bytes.
+         */
+        public int getEntityLength() {
+            return entity.length;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CachedResponse)) {
+                return false;
+            }
+            final CachedResponse other = (CachedResponse) o;
+            return status == other.status && headers.equals(other.headers) && Arrays.equals(entity, other.entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hash(status, headers) + Arrays.hashCode(entity);
+        }
+
+        @Override
+        public String toString() {
+            return "CachedResponse{status=" + status + ", headers=" + headers + ", entityLength=" + entity.length + '}';
+        }
+    }
+}
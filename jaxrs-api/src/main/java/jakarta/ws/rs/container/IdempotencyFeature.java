@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.container;
+
+import java.time.Duration;
+
+import jakarta.ws.rs.core.Feature;
+import jakarta.ws.rs.ext.RuntimeDelegate;
+
+/**
+ * Server-side de-duplication of requests carrying an {@link jakarta.ws.rs.core.HttpHeaders#IDEMPOTENCY_KEY
+ * Idempotency-Key} header.
+ * <p>
+ * Once registered with an application, the feature makes retries of non-idempotent requests safe: the first request
+ * carrying a key is executed and its response is stored in an {@link IdempotencyCache}; any later request carrying the
+ * same key is not executed, but answered with the stored response instead. A request carrying a key that is still being
+ * executed waits for that execution to complete, so concurrent duplicates are never executed twice. If the wait exceeds
+ * the configured timeout, the request is answered with {@code 409 Conflict}.
+ * </p>
+ * <p>
+ * Implementations apply the feature by means of a {@link ContainerRequestFilter} and a {@link ContainerResponseFilter}.
+ * Only requests using one of the configured methods and carrying the header are processed; all others pass unchanged.
+ * The cache key is derived from the header value, the request method and the request path, as well as the name of the
+ * {@link jakarta.ws.rs.core.SecurityContext#getUserPrincipal() user principal} if the request is authenticated, so keys
+ * of different resources or users never collide. Responses with a {@code 5xx} status code or with an entity larger than
+ * the configured maximum are not stored; the key is released instead, so a retry is executed again.
+ * </p>
+ *
+ * <pre>
+ * public class ShopApplication extends Application {
+ *     &#64;Override
+ *     public Set&lt;Object&gt; getSingletons() {
+ *         return Set.of(IdempotencyFeature.builder().timeToLive(Duration.ofHours(24)).maxEntries(100_000).build());
+ *     }
+ * }
+ * </pre>
+ *
+ * @see jakarta.ws.rs.client.IdempotencyKeyFeature
+ * @since 4.0
+ */
+public interface IdempotencyFeature extends Feature {
+
+    /**
+     * Creates a new {@code IdempotencyFeature.Builder} instance.
+     *
+     * @return {@link Builder} for building new {@link IdempotencyFeature} instances.
+     */
+    static Builder builder() {
+        return RuntimeDelegate.getInstance().createIdempotencyFeatureBuilder();
+    }
+
+    /**
+     * Builder for {@link IdempotencyFeature} instances.
+     * <p>
+     * If no cache is set, an implementation-provided in-memory cache bounded by the configured maximum number of entries
+     * is used. If no methods are set, {@code POST} and {@code PATCH} requests are processed. Time to live, wait timeout,
+     * maximum number of entries and maximum entity size default to implementation-specific values.
+     * </p>
+     *
+     * @since 4.0
+     */
+    interface Builder {
+
+        /**
+         * Sets the cache storing the responses.
+         *
+         * @param cache cache to use instead of the in-memory default.
+         * @return the updated builder.
+         * @throws NullPointerException if {@code cache} is {@code null}.
+         */
+        Builder cache(IdempotencyCache cache);
+
+        /**
+         * Sets the maximum number of entries of the in-memory default cache.
+         * <p>
+         * Ignored if a {@link #cache(IdempotencyCache) cache} is set.
+         * </p>
+         *
+         * @param maxEntries maximum number of entries. Must be positive.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code maxEntries} is not positive.
+         */
+        Builder maxEntries(int maxEntries);
+
+        /**
+         * Sets the time stored responses are replayed for.
+         *
+         * @param timeToLive time to live of cache entries. Must be positive.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code timeToLive} is not positive.
+         * @throws NullPointerException if {@code timeToLive} is {@code null}.
+         */
+        Builder timeToLive(Duration timeToLive);
+
+        /**
+         * Sets the time a duplicate request waits for the execution of the original request to complete.
+         *
+         * @param waitTimeout maximum waiting time; {@link Duration#ZERO zero} answers concurrent duplicates with
+         * {@code 409 Conflict} immediately. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code waitTimeout} is negative.
+         * @throws NullPointerException if {@code waitTimeout} is {@code null}.
+         */
+        Builder waitTimeout(Duration waitTimeout);
+
+        /**
+         * Sets the maximum size of a response entity to store.
+         *
+         * @param maxEntitySize maximum entity size in bytes. Must not be negative.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if {@code maxEntitySize} is negative.
+         */
+        Builder maxEntitySize(int maxEntitySize);
+
+        /**
+         * Sets the HTTP methods of the requests to process.
+         *
+         * @param methods HTTP methods, e.g. {@link jakarta.ws.rs.HttpMethod#POST}.
+         * @return the updated builder.
+         * @throws IllegalArgumentException if no method is given.
+         */
+        Builder methods(String... methods);
+
+        /**
+         * Builds a new {@link IdempotencyFeature} instance using the provided property values.
+         *
+         * @return {@link IdempotencyFeature} instance built from the provided property values.
+         */
+        IdempotencyFeature build();
+    }
+}
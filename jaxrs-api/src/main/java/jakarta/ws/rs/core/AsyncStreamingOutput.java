@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+/**
+ * A type that may be used as a resource method return value or as the entity in a {@link Response} when the application
+ * wishes to stream the output without blocking. This is the non-blocking counterpart of {@link StreamingOutput}.
+ * <p>
+ * The message body is produced as a {@link Flow.Publisher publisher} of {@link ByteBuffer} chunks, driven by the demand
+ * of the container. The container subscribes once the resource method has returned and requests a chunk only when the
+ * connection can accept more data without blocking, e.g. when a Servlet {@code WriteListener} signals
+ * {@code onWritePossible}. So a slow client never pins a thread; it merely delays the demand. The container writes all
+ * {@link ByteBuffer#remaining() remaining} bytes of a chunk and does not request the next chunk before it has done so, so
+ * the publisher MAY reuse a buffer once the next chunk is requested. The container does not modify the content of a
+ * buffer.
+ * </p>
+ * <p>
+ * The response is complete once the publisher signals {@link Flow.Subscriber#onComplete() onComplete}. The container
+ * SHOULD defer committing the status and headers until the first chunk or the completion signal, so that
+ * {@link Flow.Subscriber#onError(Throwable) onError} signalled before any chunk produces an error response, mapped the
+ * same as an exception thrown by the resource method; a {@link jakarta.ws.rs.WebApplicationException} produces its
+ * response. An error signalled after bytes have been written aborts the connection, so the client can tell the response
+ * is truncated. The container cancels the subscription if the client disconnects or writing fails.
+ * </p>
+ * <p>
+ * Unless a {@code Content-Length} header is set, the response is sent using chunked transfer coding or its equivalent
+ * in the HTTP version used. If {@link jakarta.ws.rs.ext.WriterInterceptor writer interceptors} apply to the response,
+ * they are invoked as for any other entity, in which case implementations MAY perform the writes on a worker thread.
+ * The publisher MUST follow the rules of the Reactive Streams specification, in particular it MUST NOT block in
+ * {@link Flow.Subscriber#onSubscribe(Flow.Subscription) subscribe} or {@link Flow.Subscription#request(long) request}
+ * and MUST NOT emit more chunks than requested.
+ * </p>
+ *
+ * <pre>
+ * &#64;GET
+ * &#64;Produces(MediaType.APPLICATION_OCTET_STREAM)
+ * public AsyncStreamingOutput download(&#64;PathParam("id") String id) {
+ *     return AsyncStreamingOutput.of(storage.read(id));
+ * }
+ * </pre>
+ *
+ * @see StreamingOutput
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface AsyncStreamingOutput extends Flow.Publisher<ByteBuffer> {
+
+    /**
+     * Create an asynchronous streaming output emitting the chunks of the given publisher.
+     *
+     * @param publisher publisher of the chunks of the message body.
+     * @return asynchronous streaming output subscribing the container to {@code publisher}.
+     * @throws IllegalArgumentException in case {@code publisher} is {@code null}.
+     */
+    static AsyncStreamingOutput of(final Flow.Publisher<? extends ByteBuffer> publisher) {
+        if (publisher == null) {
+            throw new IllegalArgumentException("publisher must not be null");
+        }
+        return publisher::subscribe;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A byte range of a representation, as requested by the {@code Range} header of an HTTP request.
+ * <p>
+ * A byte range is either a range of positions {@code first-last}, where {@code last} may be omitted to request all bytes
+ * from {@code first} to the end of the representation, or a suffix range {@code -length} requesting the last
+ * {@code length} bytes. Positions start at zero and are inclusive. Since the length of the representation is not known
+ * to the client, a range is {@link #resolve(long) resolved} against it before use.
+ * </p>
+ *
+ * @see HttpHeaders#getRanges()
+ * @see Request#evaluateRanges(java.util.Date, EntityTag)
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14.1">RFC 9110, section 14.1</a>
+ * @since 4.0
+ */
+public final class ByteRange {
+
+    private static final String BYTES_UNIT = "bytes";
+
+    private final long first;
+    private final long last;
+    private final long suffixLength;
+
+    private ByteRange(final long first, final long last, final long suffixLength) {
+        this.first = first;
+        this.last = last;
+        this.suffixLength = suffixLength;
+    }
+
+    /**
+     * Create a byte range of the positions {@code first} to {@code last}, both inclusive.
+     *
+     * @param first position of the first byte of the range. Must not be negative.
+     * @param last position of the last byte of the range. Must not be less than {@code first}.
+     * @return byte range {@code first-last}.
+     * @throws IllegalArgumentException in case {@code first} is negative or {@code last} is less than {@code first}.
+     */
+    public static ByteRange of(final long first, final long last) {
+        if (first < 0) {
+            throw new IllegalArgumentException("first must not be negative");
+        }
+        if (last < first) {
+            throw new IllegalArgumentException("last must not be less than first");
+        }
+        return new ByteRange(first, last, -1);
+    }
+
+    /**
+     * Create a byte range of all bytes from position {@code first} to the end of the representation.
+     *
+     * @param first position of the first byte of the range. Must not be negative.
+     * @return byte range {@code first-}.
+     * @throws IllegalArgumentException in case {@code first} is negative.
+     */
+    public static ByteRange from(final long first) {
+        if (first < 0) {
+            throw new IllegalArgumentException("first must not be negative");
+        }
+        return new ByteRange(first, -1, -1);
+    }
+
+    /**
+     * Create a byte range of the last {@code length} bytes of the representation.
+     *
+     * @param length number of bytes at the end of the representation. Must not be negative.
+     * @return byte range {@code -length}.
+     * @throws IllegalArgumentException in case {@code length} is negative.
+     */
+    public static ByteRange suffix(final long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+        return new ByteRange(-1, -1, length);
+    }
+
+    /**
+     * Parse the value of a {@code Range} header, e.g. {@code bytes=0-499, 1000-, -200}.
+     *
+     * @param header value of a {@code Range} header.
+     * @return unmodifiable list of the byte ranges in the order of the header.
+     * @throws IllegalArgumentException in case {@code header} is {@code null}, uses a range unit other than {@code bytes}
+     * or is not a valid list of byte ranges.
+     */
+    public static List<ByteRange> parse(final String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("header must not be null");
+        }
+        final int equals = header.indexOf('=');
+        if (equals < 0 || !BYTES_UNIT.equals(header.substring(0, equals).trim().toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("Not a byte range header: " + header);
+        }
+        final List<ByteRange> ranges = new ArrayList<>();
+        for (final String element : header.substring(equals + 1).split(",")) {
+            final String spec = element.trim();
+            if (spec.isEmpty()) {
+                // empty list elements are allowed by the list syntax
+                continue;
+            }
+            final int dash = spec.indexOf('-');
+            if (dash < 0) {
+                throw new IllegalArgumentException("Invalid byte range: " + spec);
+            }
+            final String start = spec.substring(0, dash);
+            final String end = spec.substring(dash + 1);
+            if (start.isEmpty()) {
+                ranges.add(suffix(parsePosition(end, spec)));
+            } else if (end.isEmpty()) {
+                ranges.add(from(parsePosition(start, spec)));
+            } else {
+                ranges.add(of(parsePosition(start, spec), parsePosition(end, spec)));
+            }
+        }
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("No byte range: " + header);
+        }
+        return Collections.unmodifiableList(ranges);
+    }
+
+    private static long parsePosition(final String digits, final String spec) {
+        if (digits.isEmpty()) {
+            throw new IllegalArgumentException("Invalid byte range: " + spec);
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            if (digits.charAt(i) < '0' || digits.charAt(i) > '9') {
+                throw new IllegalArgumentException("Invalid byte range: " + spec);
+            }
+        }
+        try {
+            return Long.parseLong(digits);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid byte range: " + spec, e);
+        }
+    }
+
+    /**
+     * Get the position of the first byte of the range.
+     *
+     * @return position of the first byte, or {@code -1} for a suffix range.
+     */
+    public long getFirst() {
+        return first;
+    }
+
+    /**
+     * Get the position of the last byte of the range.
+     *
+     * @return position of the last byte, or {@code -1} if the range extends to the end of the representation or is a
+     * suffix range.
+     */
+    public long getLast() {
+        return last;
+    }
+
+    /**
+     * Get the number of bytes of a suffix range.
+     *
+     * @return number of bytes at the end of the representation, or {@code -1} if the range is not a suffix range.
+     */
+    public long getSuffixLength() {
+        return suffixLength;
+    }
+
+    /**
+     * Check whether this range is a suffix range.
+     *
+     * @return {@code true} if this range requests the last bytes of the representation.
+     */
+    public boolean isSuffix() {
+        return suffixLength >= 0;
+    }
+
+    /**
+     * Check whether this range overlaps a representation of the given length, i.e. whether at least one byte of it can
+     * be sent.
+     *
+     * @param length length of the representation in bytes.
+     * @return {@code true} if the range is satisfiable.
+     * @throws IllegalArgumentException in case {@code length} is negative.
+     */
+    public boolean isSatisfiable(final long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+        return isSuffix() ? suffixLength > 0 && length > 0 : first < length;
+    }
+
+    /**
+     * Resolve this range against a representation of the given length, yielding the range {@code first-last} of the
+     * bytes to send. A range extending beyond the end of the representation is truncated to its end.
+     *
+     * @param length length of the representation in bytes.
+     * @return byte range with both positions set.
+     * @throws IllegalArgumentException in case {@code length} is negative or the range is not
+     * {@link #isSatisfiable(long) satisfiable}.
+     */
+    public ByteRange resolve(final long length) {
+        if (!isSatisfiable(length)) {
+            throw new IllegalArgumentException("Range " + this + " not satisfiable for length " + length);
+        }
+        if (isSuffix()) {
+            return of(Math.max(0, length - suffixLength), length - 1);
+        }
+        return of(first, last < 0 ? length - 1 : Math.min(last, length - 1));
+    }
+
+    /**
+     * Get the value of the {@code Content-Range} header for sending this range of a representation of the given length,
+     * e.g. {@code bytes 0-499/1234}.
+     *
+     * @param length length of the representation in bytes.
+     * @return {@code Content-Range} header value.
+     * @throws IllegalArgumentException in case {@code length} is negative or the range is not
+     * {@link #isSatisfiable(long) satisfiable}.
+     */
+    public String toContentRange(final long length) {
+        final ByteRange resolved = resolve(length);
+        return BYTES_UNIT + ' ' + resolved.first + '-' + resolved.last + '/' + length;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ByteRange)) {
+            return false;
+        }
+        final ByteRange other = (ByteRange) o;
+        return first == other.first && last == other.last && suffixLength == other.suffixLength;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(first) * 31 * 31 + Long.hashCode(last) * 31 + Long.hashCode(suffixLength);
+    }
+
+    /**
+     * Get the range in the syntax of the {@code Range} header, e.g. {@code 0-499}, {@code 1000-} or {@code -200}.
+     *
+     * @return byte range specification.
+     */
+    @Override
+    public String toString() {
+        if (isSuffix()) {
+            return "-" + suffixLength;
+        }
+        return last < 0 ? first + "-" : first + "-" + last;
+    }
+}
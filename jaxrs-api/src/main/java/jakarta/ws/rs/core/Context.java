@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -37,6 +37,7 @@ import java.lang.annotation.Target;
  * @see HttpHeaders
  * @see SecurityContext
  * @see jakarta.ws.rs.ext.Providers
+ * @see jakarta.ws.rs.ext.BufferPool
  * @since 1.0
  */
 @Target({ ElementType.PARAMETER, ElementType.METHOD, ElementType.FIELD })
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An end-to-end deadline of a request, i.e. the point in time after which the caller is no longer interested in the
+ * response.
+ * <p>
+ * Deadlines are propagated between services as the remaining time in milliseconds, carried in the request header named
+ * by the {@value #HEADER_NAME_PROPERTY} configuration property, {@value #DEFAULT_HEADER_NAME} by default. Being
+ * relative, the header value does not depend on synchronized clocks.
+ * </p>
+ * <p>
+ * On the server, the runtime creates a deadline from the header of each incoming request carrying it and exposes it via
+ * {@link jakarta.ws.rs.container.ContainerRequestContext#getDeadline()}. Once the deadline has expired, the runtime
+ * SHOULD NOT invoke the resource method anymore but respond with {@link Response.Status#SERVICE_UNAVAILABLE 503}, and it
+ * SHOULD {@link jakarta.ws.rs.container.AsyncResponse#cancel() cancel} a suspended asynchronous response.
+ * </p>
+ * <p>
+ * On the client, a deadline set on an {@link jakarta.ws.rs.client.Invocation.Builder#deadline(Deadline) invocation
+ * builder} bounds the total time of the invocation, including retries. The request carries the remaining time in the
+ * deadline header. A request is not sent once its deadline has expired; in that case, as well as when the deadline
+ * expires while waiting for the response, the invocation fails with a {@link jakarta.ws.rs.ProcessingException} caused by
+ * a {@link java.util.concurrent.TimeoutException}. Invocations made while processing a server request that carries a
+ * deadline inherit that deadline unless a deadline is set explicitly.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and thread-safe. They are based on {@link System#nanoTime()} and thus only
+ * meaningful within the Java virtual machine that created them.
+ * </p>
+ *
+ * @since 4.0
+ */
+public final class Deadline implements Comparable<Deadline> {
+
+    /**
+     * Name of the property holding the {@code Deadline} of a request.
+     * <p>
+     * On the server, the runtime sets the property on the
+     * {@link jakarta.ws.rs.container.ContainerRequestContext#setProperty(String, Object) request context}. On the client,
+     * the property can be set on a {@link jakarta.ws.rs.client.Client}, a {@link jakarta.ws.rs.client.WebTarget} or an
+     * {@link jakarta.ws.rs.client.Invocation.Builder}. The value MUST be an instance of {@code Deadline}.
+     * </p>
+     */
+    public static final String PROPERTY = "jakarta.ws.rs.core.Deadline";
+
+    /**
+     * Name of the configuration property holding the name of the request header carrying deadlines.
+     * <p>
+     * The property can be set on an {@link Application#getProperties() application}, a
+     * {@link jakarta.ws.rs.client.Client} or a {@link jakarta.ws.rs.client.WebTarget}. The value MUST be a {@code String};
+     * an empty string disables the propagation of deadlines. If the property is absent, {@value #DEFAULT_HEADER_NAME} is
+     * used.
+     * </p>
+     */
+    public static final String HEADER_NAME_PROPERTY = "jakarta.ws.rs.core.Deadline.header";
+
+    /**
+     * Name of the request header carrying the remaining time of a deadline in milliseconds, unless configured differently.
+     */
+    public static final String DEFAULT_HEADER_NAME = "Request-Timeout";
+
+    // keeps the difference of any two deadlines within the range of long
+    private static final long MAX_TIMEOUT_NANOS = Long.MAX_VALUE / 4;
+
+    private final long deadlineNanos;
+
+    private Deadline(final long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Create a deadline expiring after the given timeout has elapsed from now.
+     *
+     * @param timeout time until the deadline expires. A negative or zero timeout creates an expired deadline.
+     * @return new deadline.
+     * @throws NullPointerException in case {@code timeout} is {@code null}.
+     */
+    public static Deadline after(final Duration timeout) {
+        long timeoutNanos;
+        try {
+            timeoutNanos = timeout.toNanos();
+        } catch (final ArithmeticException e) {
+            timeoutNanos = timeout.isNegative() ? -MAX_TIMEOUT_NANOS : MAX_TIMEOUT_NANOS;
+        }
+        timeoutNanos = Math.max(-MAX_TIMEOUT_NANOS, Math.min(MAX_TIMEOUT_NANOS, timeoutNanos));
+        return new Deadline(System.nanoTime() + timeoutNanos);
+    }
+
+    /**
+     * Create a deadline from the value of a deadline header, i.e. the remaining time in milliseconds.
+     *
+     * @param value header value, a non-negative decimal integer.
+     * @return new deadline.
+     * @throws IllegalArgumentException in case {@code value} is {@code null} or not a non-negative decimal integer.
+     * @see #toHeaderValue()
+     */
+    public static Deadline fromHeaderValue(final String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        final String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("value must not be empty");
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            final char c = trimmed.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid deadline header value: " + value);
+            }
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(trimmed);
+        } catch (final NumberFormatException e) {
+            millis = Long.MAX_VALUE;
+        }
+        return after(Duration.ofMillis(millis));
+    }
+
+    /**
+     * Check whether this deadline has expired.
+     *
+     * @return {@code true} if no time remains, {@code false} otherwise.
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Get the time remaining until this deadline expires.
+     *
+     * @return remaining time, {@link Duration#ZERO} if the deadline has expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, remainingNanos()));
+    }
+
+    /**
+     * Get the time remaining until this deadline expires in the given unit, rounded down.
+     *
+     * @param unit time unit of the result.
+     * @return remaining time, {@code 0} if the deadline has expired.
+     */
+    public long remaining(final TimeUnit unit) {
+        return unit.convert(Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the value of a deadline header propagating this deadline, i.e. the remaining time in milliseconds.
+     *
+     * @return remaining time in milliseconds as decimal string, {@code "0"} if the deadline has expired.
+     * @see #fromHeaderValue(String)
+     */
+    public String toHeaderValue() {
+        return Long.toString(remaining(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Get the earlier of this and the given deadline.
+     *
+     * @param other other deadline, may be {@code null}.
+     * @return the deadline expiring first; this deadline if {@code other} is {@code null}.
+     */
+    public Deadline earliest(final Deadline other) {
+        return other == null || compareTo(other) <= 0 ? this : other;
+    }
+
+    private long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    @Override
+    public int compareTo(final Deadline other) {
+        return Long.signum(deadlineNanos - other.deadlineNanos);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Deadline)) {
+            return false;
+        }
+        return deadlineNanos == ((Deadline) o).deadlineNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + '}';
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************
-* Copyright (c) 2021 Eclipse Foundation
+* Copyright (c) 2021, 2026 Eclipse Foundation
 *
 * This specification document is made available under the terms
 * of the Eclipse Foundation Specification License v1.0, which is
@@ -56,10 +56,104 @@ import jakarta.ws.rs.ext.RuntimeDelegate;
  * the responsibility of the calling code to close the stream when receiving the
  * multipart content.
  *
+ * <p>
+ * A {@code List<EntityPart>} holds all parts at once, so the implementation has
+ * to read the entire multipart entity before the list is handed out. To process
+ * parts one at a time while they arrive, a multipart entity may be received as
+ * an {@code Iterator<EntityPart>} or a {@code Flow.Publisher<EntityPart>}
+ * instead, e.g. as the entity parameter of a resource method, which is then
+ * invoked before the entity has been read. The parts are handed out in the
+ * order in which they appear in the entity; the content of a part is read from
+ * the connection while the application reads the content stream. If the next
+ * part is requested before the content of the previous one has been read
+ * completely, the rest of that content is buffered, so that it remains
+ * readable; closing a content stream discards the unread rest of the content.
+ * {@link java.util.Iterator#hasNext()} and {@link java.util.Iterator#next()}
+ * may block until the headers of the next part have been received, and throw a
+ * {@link jakarta.ws.rs.ProcessingException} if the entity cannot be read. Parts
+ * not requested by the time the resource method has returned, or the publisher
+ * subscription has been cancelled, are discarded. Likewise,
+ * {@code Iterator<EntityPart>} and {@code Flow.Publisher<EntityPart>} can be
+ * sent, in which case a part is requested only once the previous one has been
+ * written.
+ * </p>
+ * <p>
+ * The implementation keeps the content of a received part in memory only up to
+ * the number of bytes configured by {@link #MEMORY_THRESHOLD_PROPERTY}, and the
+ * content of all parts of an entity up to the number of bytes configured by
+ * {@link #REQUEST_MEMORY_THRESHOLD_PROPERTY}. Content exceeding these thresholds
+ * is spilled to temporary files in the directory configured by
+ * {@link #SPILL_DIRECTORY_PROPERTY}, which are deleted once the content stream
+ * has been closed or, at the latest, once the request has been processed. These
+ * limits apply to {@code List<EntityPart>} entities and {@code EntityPart} form
+ * parameters as well, so that the heap needed to receive a multipart entity is
+ * bounded independently of the size of its parts.
+ * </p>
+ *
+ * <pre>
+ * &#64;POST
+ * &#64;Consumes(MediaType.MULTIPART_FORM_DATA)
+ * public Response upload(Iterator&lt;EntityPart&gt; parts) throws IOException {
+ *     while (parts.hasNext()) {
+ *         EntityPart part = parts.next();
+ *         try (InputStream content = part.getContent()) {
+ *             store(part.getName(), content);
+ *         }
+ *     }
+ *     return Response.ok().build();
+ * }
+ * </pre>
+ *
  * @since 3.1
  */
 public interface EntityPart {
 
+    /**
+     * Name of the configuration property holding the maximum number of bytes of
+     * the content of a single received part kept in memory.
+     * <p>
+     * Content exceeding the threshold is spilled to a temporary file. The
+     * property can be set on an
+     * {@link Application#getProperties() application}, a
+     * {@link jakarta.ws.rs.client.Client} or a
+     * {@link jakarta.ws.rs.client.WebTarget}. The value MUST be a non-negative
+     * {@code Long} or {@code Integer}, or a {@code String} holding such a
+     * number; zero spills all content. If the property is absent, an
+     * implementation-specific threshold is used.
+     * </p>
+     *
+     * @since 4.0
+     */
+    String MEMORY_THRESHOLD_PROPERTY = "jakarta.ws.rs.core.EntityPart.memoryThreshold";
+
+    /**
+     * Name of the configuration property holding the maximum number of bytes of
+     * the content of all parts of a received multipart entity kept in memory.
+     * <p>
+     * Once the threshold has been reached, the content of further parts is
+     * spilled to temporary files, regardless of
+     * {@link #MEMORY_THRESHOLD_PROPERTY}. The property can be set and its value
+     * is given like that of {@link #MEMORY_THRESHOLD_PROPERTY}.
+     * </p>
+     *
+     * @since 4.0
+     */
+    String REQUEST_MEMORY_THRESHOLD_PROPERTY = "jakarta.ws.rs.core.EntityPart.requestMemoryThreshold";
+
+    /**
+     * Name of the configuration property holding the directory for the
+     * temporary files content is spilled to.
+     * <p>
+     * The property can be set like {@link #MEMORY_THRESHOLD_PROPERTY}. The value
+     * MUST be a {@link java.nio.file.Path} or a {@code String} holding a path.
+     * If the property is absent, the default temporary-file directory given by
+     * the {@code java.io.tmpdir} system property is used.
+     * </p>
+     *
+     * @since 4.0
+     */
+    String SPILL_DIRECTORY_PROPERTY = "jakarta.ws.rs.core.EntityPart.spillDirectory";
+
     /**
      * Creates a new {@code EntityPart.Builder} instance.
      *
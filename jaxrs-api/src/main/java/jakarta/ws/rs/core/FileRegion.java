@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * A contiguous region of a file, used as message entity.
+ * <p>
+ * The pre-packaged entity provider for {@code FileRegion} writes exactly {@link #getCount() count} bytes starting at
+ * {@link #getPosition() position} of the {@link #getChannel() channel}, sets the {@code Content-Length} header to the
+ * count of the region before sending the entity and SHOULD transfer the bytes using
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, so the operating system can send
+ * them without copying them through buffers in the Java heap. The position of the channel is neither used nor modified.
+ * </p>
+ * <p>
+ * As entity of a response to a {@code GET} request, a region supports byte range requests: the provider answers a
+ * {@code Range} request with status 206 (Partial Content), or 416 (Range Not Satisfiable), sending only the requested
+ * ranges, which are relative to the start of the region. A {@code multipart/byteranges} entity is sent for several
+ * ranges.
+ * </p>
+ * <p>
+ * The channel is owned by the application: the JAX-RS runtime does not close it, neither after writing the entity nor on
+ * failure. As the region is only read when the entity is written, the channel MUST stay open until the request has been
+ * sent or the response has been written.
+ * </p>
+ *
+ * @see jakarta.ws.rs.client.Entity#file(FileRegion, MediaType)
+ * @see Response#file(java.nio.file.Path)
+ * @since 4.0
+ */
+public final class FileRegion {
+
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+
+    /**
+     * Create a new region of a file.
+     *
+     * @param channel channel to read the region from.
+     * @param position position of the first byte of the region within the file. Must not be negative.
+     * @param count number of bytes in the region. Must not be negative.
+     * @throws IllegalArgumentException in case {@code channel} is {@code null} or {@code position} or {@code count} is
+     * negative.
+     */
+    public FileRegion(final FileChannel channel, final long position, final long count) {
+        if (channel == null) {
+            throw new IllegalArgumentException("channel must not be null");
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException("position must not be negative");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        this.channel = channel;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Get the channel to read the region from.
+     *
+     * @return file channel.
+     */
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Get the position of the first byte of the region within the file.
+     *
+     * @return region start position.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Get the number of bytes in the region.
+     *
+     * @return region length in bytes, to be used as value of the {@code Content-Length} header.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileRegion)) {
+            return false;
+        }
+        final FileRegion other = (FileRegion) o;
+        return channel.equals(other.channel) && position == other.position && count == other.count;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(channel, position, count);
+    }
+
+    @Override
+    public String toString() {
+        return "FileRegion{channel=" + channel + ", position=" + position + ", count=" + count + '}';
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package jakarta.ws.rs.core;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -134,6 +135,31 @@ public interface HttpHeaders {
      */
     public int getLength();
 
+    /**
+     * Get the byte ranges requested by the {@code Range} header.
+     * <p>
+     * The default implementation parses the value returned by {@link #getHeaderString(String)} using
+     * {@link ByteRange#parse(String)}.
+     * </p>
+     *
+     * @return unmodifiable list of the requested byte ranges in the order of the header. Empty if the request has no
+     * {@code Range} header or one that is not a valid list of byte ranges.
+     * @throws java.lang.IllegalStateException if called outside the scope of a request.
+     * @see Request#evaluateRanges(Date, EntityTag)
+     * @since 4.0
+     */
+    public default List<ByteRange> getRanges() {
+        final String range = getHeaderString(RANGE);
+        if (range == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return ByteRange.parse(range);
+        } catch (final IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+    }
+
     /**
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.1">HTTP/1.1 documentation</a>.
      */
@@ -150,6 +176,12 @@ public interface HttpHeaders {
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.4">HTTP/1.1 documentation</a>.
      */
     public static final String ACCEPT_LANGUAGE = "Accept-Language";
+    /**
+     * See <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14.3">RFC 9110</a>.
+     *
+     * @since 4.0
+     */
+    public static final String ACCEPT_RANGES = "Accept-Ranges";
     /**
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.7">HTTP/1.1 documentation</a>.
      */
@@ -186,6 +218,12 @@ public interface HttpHeaders {
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.14">HTTP/1.1 documentation</a>.
      */
     public static final String CONTENT_LOCATION = "Content-Location";
+    /**
+     * See <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14.4">RFC 9110</a>.
+     *
+     * @since 4.0
+     */
+    public static final String CONTENT_RANGE = "Content-Range";
     /**
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.17">HTTP/1.1 documentation</a>.
      */
@@ -222,6 +260,12 @@ public interface HttpHeaders {
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.26">HTTP/1.1 documentation</a>.
      */
     public static final String IF_NONE_MATCH = "If-None-Match";
+    /**
+     * See <a href="https://www.rfc-editor.org/rfc/rfc9110#section-13.1.5">RFC 9110</a>.
+     *
+     * @since 4.0
+     */
+    public static final String IF_RANGE = "If-Range";
     /**
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.28">HTTP/1.1 documentation</a>.
      */
@@ -238,6 +282,12 @@ public interface HttpHeaders {
      * See <a href="http://tools.ietf.org/html/rfc5988#page-6">Web Linking (IETF RFC-5988) documentation</a>.
      */
     public static final String LINK = "Link";
+    /**
+     * See <a href="https://www.rfc-editor.org/rfc/rfc9110#section-14.2">RFC 9110</a>.
+     *
+     * @since 4.0
+     */
+    public static final String RANGE = "Range";
     /**
      * See <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.37">HTTP/1.1 documentation</a>.
      */
@@ -269,4 +319,13 @@ public interface HttpHeaders {
      * @since 2.1
      */
     public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    /**
+     * {@code "Idempotency-Key"} HTTP request header name, identifying a request so that the server can detect and
+     * de-duplicate retries of it.
+     *
+     * @see jakarta.ws.rs.container.IdempotencyFeature
+     * @see jakarta.ws.rs.client.IdempotencyKeyFeature
+     * @since 4.0
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 }
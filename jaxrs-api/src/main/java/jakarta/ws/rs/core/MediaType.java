@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -112,6 +112,18 @@ public class MediaType {
      * A {@link MediaType} constant representing {@value #MULTIPART_FORM_DATA} media type.
      */
     public static final MediaType MULTIPART_FORM_DATA_TYPE = new MediaType("multipart", "form-data");
+    /**
+     * A {@code String} constant representing {@value #MULTIPART_BYTERANGES} media type.
+     *
+     * @since 4.0
+     */
+    public static final String MULTIPART_BYTERANGES = "multipart/byteranges";
+    /**
+     * A {@link MediaType} constant representing {@value #MULTIPART_BYTERANGES} media type.
+     *
+     * @since 4.0
+     */
+    public static final MediaType MULTIPART_BYTERANGES_TYPE = new MediaType("multipart", "byteranges");
     /**
      * A {@code String} constant representing {@value #APPLICATION_OCTET_STREAM} media type.
      */
@@ -160,6 +172,32 @@ public class MediaType {
      * A {@link MediaType} constant representing {@value #APPLICATION_JSON_PATCH_JSON} media type.
      */
     public static final MediaType APPLICATION_JSON_PATCH_JSON_TYPE = new MediaType("application", "json-patch+json");
+    /**
+     * A {@code String} constant representing {@value #APPLICATION_NDJSON} media type, a stream of JSON texts separated by
+     * line feeds.
+     *
+     * @since 4.0
+     */
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    /**
+     * A {@link MediaType} constant representing {@value #APPLICATION_NDJSON} media type.
+     *
+     * @since 4.0
+     */
+    public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+    /**
+     * A {@code String} constant representing {@value #APPLICATION_JSON_SEQ} media type, a sequence of JSON texts as
+     * defined by <a href="https://www.rfc-editor.org/rfc/rfc7464">RFC 7464</a>.
+     *
+     * @since 4.0
+     */
+    public static final String APPLICATION_JSON_SEQ = "application/json-seq";
+    /**
+     * A {@link MediaType} constant representing {@value #APPLICATION_JSON_SEQ} media type.
+     *
+     * @since 4.0
+     */
+    public static final MediaType APPLICATION_JSON_SEQ_TYPE = new MediaType("application", "json-seq");
 
     /**
      * Creates a new instance of {@code MediaType} by parsing the supplied string.
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entity consisting of byte ranges of a seekable source, used as entity of a 206 (Partial Content) response.
+ * <p>
+ * The pre-packaged entity provider for {@code PartialEntity} reads only the bytes of the {@link #getRanges() ranges}
+ * from the {@link #getSource() source}. A single range is written as is, with the {@code Content-Length} header set to
+ * its length. Several ranges are written as a {@code multipart/byteranges} entity: the provider replaces the
+ * {@code Content-Type} header of the response with {@value MediaType#MULTIPART_BYTERANGES} and a generated boundary, and
+ * writes each range as a part with the original {@code Content-Type} and a {@code Content-Range} header.
+ * </p>
+ * <p>
+ * As the provider changes the position of the source, the source MUST NOT be used otherwise until the entity has been
+ * written. The JAX-RS runtime closes the source once the entity has been written or writing it has failed.
+ * </p>
+ *
+ * @see Response#partialContent(SeekableByteChannel, List)
+ * @see FileRegion
+ * @since 4.0
+ */
+public final class PartialEntity {
+
+    private final SeekableByteChannel source;
+    private final long length;
+    private final List<ByteRange> ranges;
+
+    /**
+     * Create a new entity of the satisfiable ranges of a source.
+     *
+     * @param source seekable source of the representation.
+     * @param ranges requested ranges. Ranges that are not satisfiable for the size of the source are left out, the others
+     * are {@link ByteRange#resolve(long) resolved}.
+     * @throws IllegalArgumentException in case {@code source} or {@code ranges} is {@code null} or none of the ranges is
+     * satisfiable.
+     * @throws IOException if the size of the source cannot be determined.
+     */
+    public PartialEntity(final SeekableByteChannel source, final List<ByteRange> ranges) throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("source must not be null");
+        }
+        if (ranges == null) {
+            throw new IllegalArgumentException("ranges must not be null");
+        }
+        final long size = source.size();
+        final List<ByteRange> resolved = new ArrayList<>(ranges.size());
+        for (final ByteRange range : ranges) {
+            if (range.isSatisfiable(size)) {
+                resolved.add(range.resolve(size));
+            }
+        }
+        if (resolved.isEmpty()) {
+            throw new IllegalArgumentException("None of the ranges " + ranges + " is satisfiable for length " + size);
+        }
+        this.source = source;
+        this.length = size;
+        this.ranges = Collections.unmodifiableList(resolved);
+    }
+
+    /**
+     * Get the source of the representation.
+     *
+     * @return seekable source.
+     */
+    public SeekableByteChannel getSource() {
+        return source;
+    }
+
+    /**
+     * Get the length of the complete representation, as sent in {@code Content-Range} headers.
+     *
+     * @return size of the source at creation time.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Get the ranges to send, resolved against the {@link #getLength() length} of the representation.
+     *
+     * @return unmodifiable list of ranges with both positions set, in the order requested.
+     */
+    public List<ByteRange> getRanges() {
+        return ranges;
+    }
+
+    @Override
+    public String toString() {
+        return "PartialEntity{source=" + source + ", length=" + length + ", ranges=" + ranges + '}';
+    }
+}
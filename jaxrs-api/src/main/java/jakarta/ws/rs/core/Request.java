@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,7 @@
 
 package jakarta.ws.rs.core;
 
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -123,4 +124,30 @@ public interface Request {
      */
     public ResponseBuilder evaluatePreconditions();
 
+    /**
+     * Evaluate the {@code Range} and {@code If-Range} headers of a {@code GET} request for a representation with the
+     * passed in validators.
+     * <p>
+     * The requested ranges are returned if the request method is {@code GET}, the request has a {@code Range} header that
+     * is a valid list of byte ranges and it either has no {@code If-Range} header or one matching {@code eTag} by strong
+     * comparison or equal to {@code lastModified}. Otherwise the empty list is returned, in which case the complete
+     * representation is to be sent. A response for the returned ranges can be built using
+     * {@link Response#partialContent(java.nio.channels.SeekableByteChannel, List)}.
+     * </p>
+     * <p>
+     * The default implementation returns the empty list, i.e. range requests are not supported and the complete
+     * representation is always sent. Implementations SHOULD override it.
+     * </p>
+     *
+     * @param lastModified a date that specifies the modification date of the resource, may be {@code null}.
+     * @param eTag an ETag for the current state of the resource, may be {@code null}.
+     * @return unmodifiable list of the byte ranges to send, empty if the complete representation is to be sent.
+     * @throws java.lang.IllegalStateException if called outside the scope of a request.
+     * @see HttpHeaders#getRanges()
+     * @since 4.0
+     */
+    public default List<ByteRange> evaluateRanges(final Date lastModified, final EntityTag eTag) {
+        return Collections.emptyList();
+    }
+
 }
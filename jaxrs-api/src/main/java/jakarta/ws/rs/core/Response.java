@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,14 +16,26 @@
 
 package jakarta.ws.rs.core;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.ext.MessageBodyReader;
@@ -51,6 +63,8 @@ import jakarta.ws.rs.ext.RuntimeDelegate;
  */
 public abstract class Response implements AutoCloseable {
 
+    private static final int TRANSFER_CHUNK_SIZE = 8192;
+
     /**
      * Protected constructor, use one of the static methods to obtain a {@link ResponseBuilder} instance and obtain a
      * Response from that.
@@ -134,6 +148,13 @@ public abstract class Response implements AutoCloseable {
      * been buffered, the buffer will be reset prior consuming the buffered data to enable subsequent invocations of
      * {@code readEntity(...)} methods on this response.
      * </p>
+     * <p>
+     * An entity of media type {@value MediaType#APPLICATION_NDJSON} or {@value MediaType#APPLICATION_JSON_SEQ} can be read
+     * as a {@link java.util.stream.Stream}, e.g. {@code new GenericType<Stream<Item>>() {}}. The stream is consumed
+     * lazily: each element is read from the entity input stream and deserialized only when the stream pipeline requests
+     * it, so the entity input stream is not closed by this method. Closing the stream {@link #close() closes} the
+     * response; a {@link ProcessingException} is thrown from the stream operation that encounters malformed content.
+     * </p>
      *
      * @param <T> entity instance Java type.
      * @param entityType the type of entity; may be generic.
@@ -197,6 +218,13 @@ public abstract class Response implements AutoCloseable {
      * been buffered, the buffer will be reset prior consuming the buffered data to enable subsequent invocations of
      * {@code readEntity(...)} methods on this response.
      * </p>
+     * <p>
+     * An entity of media type {@value MediaType#APPLICATION_NDJSON} or {@value MediaType#APPLICATION_JSON_SEQ} can be read
+     * as a {@link java.util.stream.Stream}, e.g. {@code new GenericType<Stream<Item>>() {}}. The stream is consumed
+     * lazily: each element is read from the entity input stream and deserialized only when the stream pipeline requests
+     * it, so the entity input stream is not closed by this method. Closing the stream {@link #close() closes} the
+     * response; a {@link ProcessingException} is thrown from the stream operation that encounters malformed content.
+     * </p>
      *
      * @param <T> entity instance Java type.
      * @param entityType the type of entity; may be generic.
@@ -254,6 +282,10 @@ public abstract class Response implements AutoCloseable {
      * expected to release the buffered message entity data too. Therefore any subsequent attempts to read a message entity
      * stream on such closed response will result in an {@link IllegalStateException} being thrown.
      * </p>
+     * <p>
+     * The whole entity is buffered in memory. To bound the memory used for buffering large entities, use
+     * {@link #bufferEntity(long)} instead.
+     * </p>
      *
      * @return {@code true} if the message entity input stream was available and was buffered successfully, returns
      * {@code false} if the entity stream was not available.
@@ -263,9 +295,190 @@ public abstract class Response implements AutoCloseable {
      */
     public abstract boolean bufferEntity();
 
+    /**
+     * Buffer the message entity data, keeping at most {@code memoryThreshold} bytes in memory.
+     * <p>
+     * Behaves like {@link #bufferEntity()}, except that an entity larger than {@code memoryThreshold} bytes is not
+     * buffered in memory but spilled to a temporary file. Subsequent invocations of {@code readEntity(...)} methods read
+     * the buffered entity from that file transparently; implementations SHOULD map the file into memory for reading
+     * instead of copying its content to the Java heap. The size of an entity is not known in advance in general, so up to
+     * {@code memoryThreshold} bytes may be held in memory before the entity is spilled.
+     * </p>
+     * <p>
+     * The temporary file is created in an implementation-specific directory, by default the directory denoted by the
+     * {@code java.io.tmpdir} system property. Implementations MUST delete the file once the response is {@link #close()
+     * closed} and SHOULD delete it when the response becomes unreachable without being closed.
+     * </p>
+     * <p>
+     * This operation is idempotent like {@link #bufferEntity()}: once the entity has been buffered, by either method,
+     * subsequent invocations have no further effect regardless of the threshold.
+     * </p>
+     * <p>
+     * The default implementation validates {@code memoryThreshold} and falls back to {@link #bufferEntity()}, ignoring the
+     * threshold, i.e. it buffers the whole entity in memory. Implementations SHOULD override it to spill large entities to
+     * a temporary file as described above.
+     * </p>
+     *
+     * @param memoryThreshold maximum number of entity bytes to buffer in memory; {@code 0} spills any non-empty entity to
+     * a temporary file.
+     * @return {@code true} if the message entity input stream was available and was buffered successfully, returns
+     * {@code false} if the entity stream was not available.
+     * @throws IllegalArgumentException in case {@code memoryThreshold} is negative.
+     * @throws ProcessingException if there was an error while buffering the entity input stream or writing the temporary
+     * file.
+     * @throws IllegalStateException in case the response has been {@link #close() closed}.
+     * @since 4.0
+     */
+    public boolean bufferEntity(final long memoryThreshold) {
+        if (memoryThreshold < 0) {
+            throw new IllegalArgumentException("memoryThreshold must not be negative");
+        }
+        return bufferEntity();
+    }
+
+    /**
+     * Read the message entity into a caller-supplied buffer.
+     * <p>
+     * The entity bytes, as they would be read from the {@link java.io.InputStream input stream} returned by
+     * {@code readEntity(InputStream.class)}, are put into {@code buffer} starting at its current position. The position of
+     * the buffer is advanced by the number of bytes read; its limit is not modified. If the entity is larger than the
+     * {@link ByteBuffer#remaining() remaining} space of the buffer, the buffer is filled up, the rest of the entity is
+     * discarded and the returned result is {@link TransferResult#isTruncated() truncated}.
+     * </p>
+     * <p>
+     * The buffer may be a direct or a pooled buffer, so the entity can be read without allocating memory for each response.
+     * Like {@code readEntity(...)} for types other than {@link java.io.InputStream}, this method automatically
+     * {@link #close() closes} the original entity input stream. In case the entity data has been
+     * {@link #bufferEntity() buffered}, the buffer will be reset prior consuming the buffered data.
+     * </p>
+     * <p>
+     * The default implementation reads the entity from {@code readEntity(InputStream.class)}, directly into the backing
+     * array of a heap buffer or through a {@link Channels#newChannel(InputStream) channel} adapter for a direct buffer.
+     * Such a channel adapter copies the bytes through an intermediate array, so only implementations overriding this
+     * method can avoid the copy. Implementations SHOULD override it to read the entity bytes into the buffer without
+     * intermediate copies.
+     * </p>
+     *
+     * @param buffer the buffer to read the entity into.
+     * @return number of bytes put into the buffer and whether the entity has been truncated.
+     * @throws ProcessingException if reading the entity fails.
+     * @throws IllegalStateException if the entity is not backed by an input stream, the response has been {@link #close()
+     * closed} already, or if the entity input stream has been fully consumed already and has not been buffered prior
+     * consuming.
+     * @throws java.nio.ReadOnlyBufferException if {@code buffer} is read-only.
+     * @since 4.0
+     */
+    public TransferResult readEntityInto(final ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        try (InputStream entity = readEntity(InputStream.class)) {
+            long count = 0;
+            if (buffer.hasArray()) {
+                final byte[] array = buffer.array();
+                while (buffer.hasRemaining()) {
+                    final int n = entity.read(array, buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    if (n < 0) {
+                        return new TransferResult(count, false);
+                    }
+                    buffer.position(buffer.position() + n);
+                    count += n;
+                }
+            } else {
+                final ReadableByteChannel source = Channels.newChannel(entity);
+                while (buffer.hasRemaining()) {
+                    final int n = source.read(buffer);
+                    if (n < 0) {
+                        return new TransferResult(count, false);
+                    }
+                    count += n;
+                }
+            }
+            return new TransferResult(count, entity.read() >= 0);
+        } catch (final IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
+    /**
+     * Write the message entity to a caller-supplied channel.
+     * <p>
+     * Same as calling {@link #transferEntityTo(WritableByteChannel, long) transferEntityTo(channel, Long.MAX_VALUE)}.
+     * </p>
+     *
+     * @param channel the channel to write the entity to, in blocking mode.
+     * @return number of bytes written to the channel.
+     * @throws ProcessingException if reading the entity or writing it to the channel fails.
+     * @throws IllegalStateException if the entity is not backed by an input stream, the response has been {@link #close()
+     * closed} already, or if the entity input stream has been fully consumed already and has not been buffered prior
+     * consuming.
+     * @since 4.0
+     */
+    public TransferResult transferEntityTo(final WritableByteChannel channel) {
+        return transferEntityTo(channel, Long.MAX_VALUE);
+    }
+
+    /**
+     * Write at most {@code maxLength} bytes of the message entity to a caller-supplied channel.
+     * <p>
+     * The entity bytes, as they would be read from the {@link java.io.InputStream input stream} returned by
+     * {@code readEntity(InputStream.class)}, are written to the channel, which MUST be in blocking mode. If the entity is
+     * larger than {@code maxLength}, the rest of the entity is discarded and the returned result is
+     * {@link TransferResult#isTruncated() truncated}. The channel is not closed.
+     * </p>
+     * <p>
+     * This allows to proxy an entity or to compute a checksum of it without allocating memory for each response. Like
+     * {@code readEntity(...)} for types other than {@link java.io.InputStream}, this method automatically
+     * {@link #close() closes} the original entity input stream. In case the entity data has been
+     * {@link #bufferEntity() buffered}, the buffer will be reset prior consuming the buffered data.
+     * </p>
+     * <p>
+     * The default implementation reads the entity from {@code readEntity(InputStream.class)} and copies it to the channel
+     * through a temporary array allocated on each invocation; only implementations overriding this method can avoid
+     * this copy and allocation. Implementations SHOULD override it to transfer the entity bytes to the channel without
+     * intermediate copies.
+     * </p>
+     *
+     * @param channel the channel to write the entity to, in blocking mode.
+     * @param maxLength maximum number of bytes to write. Must not be negative.
+     * @return number of bytes written to the channel and whether the entity has been truncated.
+     * @throws ProcessingException if reading the entity or writing it to the channel fails.
+     * @throws IllegalStateException if the entity is not backed by an input stream, the response has been {@link #close()
+     * closed} already, or if the entity input stream has been fully consumed already and has not been buffered prior
+     * consuming.
+     * @throws IllegalArgumentException if {@code maxLength} is negative.
+     * @since 4.0
+     */
+    public TransferResult transferEntityTo(final WritableByteChannel channel, final long maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative");
+        }
+        try (InputStream entity = readEntity(InputStream.class)) {
+            final byte[] chunk = new byte[TRANSFER_CHUNK_SIZE];
+            final ByteBuffer source = ByteBuffer.wrap(chunk);
+            long count = 0;
+            while (count < maxLength) {
+                final int n = entity.read(chunk, 0, (int) Math.min(chunk.length, maxLength - count));
+                if (n < 0) {
+                    return new TransferResult(count, false);
+                }
+                source.clear();
+                source.limit(n);
+                while (source.hasRemaining()) {
+                    channel.write(source);
+                }
+                count += n;
+            }
+            return new TransferResult(count, entity.read() >= 0);
+        } catch (final IOException e) {
+            throw new ProcessingException(e);
+        }
+    }
+
     /**
      * Close the underlying message entity input stream (if available and open) as well as releases any other resources
-     * associated with the response (e.g. {@link #bufferEntity() buffered message entity data}).
+     * associated with the response (e.g. {@link #bufferEntity() buffered message entity data} including temporary files
+     * the entity has been {@link #bufferEntity(long) spilled} to).
      * <p>
      * This operation is idempotent, i.e. it can be invoked multiple times with the same effect which also means that
      * calling the {@code close()} method on an already closed message instance is legal and has no further effect.
@@ -615,6 +828,116 @@ public abstract class Response implements AutoCloseable {
         return ok().entity(entity).variant(variant);
     }
 
+    /**
+     * Create a new ResponseBuilder with an OK status and the given file as entity, prepared for conditional and range
+     * requests.
+     * <p>
+     * The {@code Last-Modified} header is set to the last modification time of the file and the {@code ETag} header to a
+     * strong entity tag derived from the size and the last modification time of the file, so that the builder can be
+     * combined with {@link Request#evaluatePreconditions(Date, EntityTag)}. The pre-packaged entity provider for
+     * {@link java.nio.file.Path} sets the {@code Content-Length} header, SHOULD transfer the file using
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)} and answers {@code Range} requests
+     * with partial content, validating {@code If-Range} headers against these headers.
+     * </p>
+     *
+     * <pre>
+     * &#64;GET
+     * &#64;Path("{name}")
+     * &#64;Produces(MediaType.APPLICATION_OCTET_STREAM)
+     * public Response download(&#64;PathParam("name") String name) throws IOException {
+     *     return Response.file(store.resolve(name)).build();
+     * }
+     * </pre>
+     *
+     * @param file the file to send as entity.
+     * @return a new response builder.
+     * @throws IllegalArgumentException in case {@code file} is {@code null}.
+     * @throws IOException if the file does not exist, is not a regular file or its attributes cannot be read.
+     * @since 4.0
+     */
+    public static ResponseBuilder file(final java.nio.file.Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("file must not be null");
+        }
+        final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+            throw new FileSystemException(file.toString(), null, "Not a regular file");
+        }
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        return ok(file)
+                .lastModified(new Date(lastModified))
+                .tag(new EntityTag(Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size())));
+    }
+
+    /**
+     * Create a new ResponseBuilder for a 206 (Partial Content) response sending byte ranges of a seekable source.
+     * <p>
+     * The entity of the builder is a {@link PartialEntity} of the satisfiable ranges and the {@code Accept-Ranges} header
+     * is set to {@code bytes}. For a single range the {@code Content-Range} header is set, several ranges are sent as a
+     * {@code multipart/byteranges} entity. If none of the ranges is satisfiable, {@code source} is closed and the builder is
+     * the one returned by {@link #rangeNotSatisfiable(long)} for the size of the source. The media type of the builder is to be set to the
+     * media type of the complete representation.
+     * </p>
+     *
+     * <pre>
+     * &#64;GET
+     * public Response get(&#64;Context Request request) throws IOException {
+     *     List&lt;ByteRange&gt; ranges = request.evaluateRanges(blob.lastModified(), blob.entityTag());
+     *     SeekableByteChannel source = blob.open();
+     *     return (ranges.isEmpty() ? Response.ok(Channels.newInputStream(source)) : Response.partialContent(source, ranges))
+     *             .type(blob.mediaType()).tag(blob.entityTag()).build();
+     * }
+     * </pre>
+     *
+     * @param source seekable source of the representation, closed by the JAX-RS runtime once the entity has been written
+     * or by this method if none of the ranges is satisfiable.
+     * @param ranges requested ranges, e.g. as returned by {@link Request#evaluateRanges(Date, EntityTag)}.
+     * @return a new response builder.
+     * @throws IllegalArgumentException in case {@code source} is {@code null} or {@code ranges} is {@code null} or empty.
+     * @throws IOException if the size of the source cannot be determined.
+     * @since 4.0
+     */
+    public static ResponseBuilder partialContent(final SeekableByteChannel source, final List<ByteRange> ranges)
+            throws IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("source must not be null");
+        }
+        if (ranges == null || ranges.isEmpty()) {
+            throw new IllegalArgumentException("ranges must not be empty");
+        }
+        final long length = source.size();
+        final List<ByteRange> satisfiable = ranges.stream().filter(range -> range.isSatisfiable(length))
+                .collect(Collectors.toList());
+        if (satisfiable.isEmpty()) {
+            source.close();
+            return rangeNotSatisfiable(length);
+        }
+        final ResponseBuilder b = status(Status.PARTIAL_CONTENT)
+                .entity(new PartialEntity(source, satisfiable))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (satisfiable.size() == 1) {
+            b.header(HttpHeaders.CONTENT_RANGE, satisfiable.get(0).toContentRange(length));
+        }
+        return b;
+    }
+
+    /**
+     * Create a new ResponseBuilder for a 416 (Range Not Satisfiable) response, with the {@code Content-Range} header set
+     * to the length of the complete representation.
+     *
+     * @param length length of the complete representation in bytes.
+     * @return a new response builder.
+     * @throws IllegalArgumentException in case {@code length} is negative.
+     * @since 4.0
+     */
+    public static ResponseBuilder rangeNotSatisfiable(final long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative");
+        }
+        return status(Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+    }
+
     /**
      * Create a new ResponseBuilder with an server error status.
      *
@@ -1149,6 +1472,71 @@ public abstract class Response implements AutoCloseable {
         }
     }
 
+    /**
+     * Outcome of transferring a message entity into a caller-supplied buffer or channel.
+     *
+     * @see Response#readEntityInto(ByteBuffer)
+     * @see Response#transferEntityTo(WritableByteChannel, long)
+     * @since 4.0
+     */
+    public static final class TransferResult {
+
+        private final long byteCount;
+        private final boolean truncated;
+
+        /**
+         * Create a new transfer result.
+         *
+         * @param byteCount number of bytes transferred.
+         * @param truncated {@code true} if the entity has been truncated, {@code false} otherwise.
+         */
+        public TransferResult(final long byteCount, final boolean truncated) {
+            this.byteCount = byteCount;
+            this.truncated = truncated;
+        }
+
+        /**
+         * Get the number of bytes transferred.
+         *
+         * @return number of bytes transferred.
+         */
+        public long getByteCount() {
+            return byteCount;
+        }
+
+        /**
+         * Check whether the entity has been truncated, i.e. whether the entity was larger than the space available for it.
+         *
+         * @return {@code true} if bytes of the entity have been discarded, {@code false} if the complete entity has been
+         * transferred.
+         */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TransferResult)) {
+                return false;
+            }
+            final TransferResult other = (TransferResult) o;
+            return byteCount == other.byteCount && truncated == other.truncated;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(byteCount, truncated);
+        }
+
+        @Override
+        public String toString() {
+            return "TransferResult{byteCount=" + byteCount + ", truncated=" + truncated + '}';
+        }
+    }
+
     /**
      * Commonly used status codes defined by HTTP, see
      * <a href="http://www.w3.org/Protocols/rfc2616/rfc2616-sec10.html#sec10">HTTP/1.1 documentation</a> for the complete
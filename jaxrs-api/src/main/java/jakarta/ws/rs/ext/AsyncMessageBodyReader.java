@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Extension of the {@link MessageBodyReader} contract for readers that consume the HTTP entity without blocking.
+ * <p>
+ * Instead of an {@link InputStream}, such a reader is handed a {@link Flow.Publisher publisher} of the chunks of the
+ * entity as they arrive from the connection, and returns a {@link CompletionStage} that is completed with the Java
+ * representation once the entity has been decoded. A reader requests chunks only as fast as it can process them, so it
+ * may feed each chunk to an incremental parser, e.g. a streaming JSON parser, instead of buffering the entire entity.
+ * A slow upload never pins a thread; it merely delays the completion of the stage.
+ * </p>
+ * <p>
+ * Implementations SHOULD invoke
+ * {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap, Flow.Publisher)} if no
+ * {@link ReaderInterceptor} applies to the entity, and request a chunk from the connection only when the reader signals
+ * demand. A server runtime invokes the resource method only after the returned stage has completed, without holding a
+ * thread while waiting. If reader interceptors apply, the implementation MAY receive the entire entity without blocking
+ * first and then invoke the interceptors with an input stream reading the received entity; when the interceptor chain
+ * {@link ReaderInterceptorContext#proceed() proceeds} to the reader, the implementation invokes
+ * {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap, InputStream)}. Its default implementation
+ * adapts the input stream to a publisher and waits for the completion of the stage, so readers need to implement the
+ * publisher variant only.
+ * </p>
+ *
+ * @param <T> Java type supported by the provider
+ * @see jakarta.ws.rs.core.AsyncStreamingOutput
+ * @since 4.0
+ */
+public interface AsyncMessageBodyReader<T> extends MessageBodyReader<T> {
+
+    /**
+     * Read a type from a publisher of the chunks of the HTTP entity.
+     * <p>
+     * The reader subscribes to {@code entityPublisher} at most once, either before it returns or later. The publisher
+     * emits no more chunks than requested and signals {@link Flow.Subscriber#onComplete() onComplete} once the entity has
+     * been consumed, or {@link Flow.Subscriber#onError(Throwable) onError} if reading from the connection fails. The
+     * reader MUST NOT retain or modify a chunk after requesting the next one, as the implementation MAY reuse the buffer.
+     * If the reader does not need the rest of the entity, it cancels the subscription; the implementation then discards
+     * the remaining bytes.
+     * </p>
+     * <p>
+     * The returned stage MUST be completed once the entity has been decoded, or completed exceptionally if decoding fails.
+     * An exception the stage is completed with is handled the same as an exception thrown by
+     * {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap, InputStream)}. In particular, in case the
+     * entity is empty, the stage is expected to be completed either with a Java representation of a zero-length entity or
+     * exceptionally with a {@link jakarta.ws.rs.core.NoContentException}.
+     * </p>
+     *
+     * @param type the type that is to be read from the entity.
+     * @param genericType the type of instance to be produced. E.g. if the message body is to be converted into a method
+     * parameter, this will be the formal type of the method parameter as returned by
+     * {@code Method.getGenericParameterTypes}.
+     * @param annotations an array of the annotations on the declaration of the artifact that will be initialized with the
+     * produced instance. E.g. if the message body is to be converted into a method parameter, this will be the annotations
+     * on that parameter returned by {@code Method.getParameterAnnotations}.
+     * @param mediaType the media type of the HTTP entity.
+     * @param httpHeaders the read-only HTTP headers associated with HTTP entity.
+     * @param entityPublisher the publisher of the chunks of the HTTP entity.
+     * @return stage completed with the type that was read from the entity.
+     */
+    public CompletionStage<T> readFrom(Class<T> type, Type genericType,
+            Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders,
+            Flow.Publisher<ByteBuffer> entityPublisher);
+
+    /**
+     * Read a type from the {@link InputStream}.
+     * <p>
+     * The default implementation invokes
+     * {@link #readFrom(Class, Type, Annotation[], MediaType, MultivaluedMap, Flow.Publisher)} with a publisher reading
+     * chunks from {@code entityStream} on the thread requesting them, and waits for the completion of the returned stage.
+     * If the stage is completed exceptionally with an {@link IOException} or an unchecked exception, that exception is
+     * rethrown; any other exception is rethrown wrapped in an {@code IOException}. The input stream is not closed.
+     * </p>
+     */
+    @Override
+    public default T readFrom(final Class<T> type, final Type genericType,
+            final Annotation[] annotations, final MediaType mediaType,
+            final MultivaluedMap<String, String> httpHeaders,
+            final InputStream entityStream) throws IOException, WebApplicationException {
+        final CompletionStage<T> stage = readFrom(type, genericType, annotations, mediaType, httpHeaders,
+                new InputStreamPublisher(entityStream));
+        try {
+            return stage.toCompletableFuture().get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the entity");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Pool of byte buffers managed by the JAX-RS runtime, shared by the runtime and the providers of an application.
+ * <p>
+ * Providers needing temporary buffers, e.g. {@link MessageBodyReader message body readers},
+ * {@link MessageBodyWriter message body writers} and {@link ReaderInterceptor reader} or
+ * {@link WriterInterceptor writer interceptors} copying or transforming entities, SHOULD acquire them from the pool
+ * instead of allocating them, which spares the allocation and, for direct buffers, the copying into the buffers of the
+ * connection. The pool can be injected into providers and resources using {@link jakarta.ws.rs.core.Context &#64;Context}
+ * and is available to interceptors via {@link InterceptorContext#getBufferPool()}. It is available on both the client
+ * and the server side.
+ * </p>
+ * <p>
+ * A buffer acquired from the pool MUST be {@link #release(ByteBuffer) released} to it once it is no longer needed, and
+ * MUST NOT be used after having been released, as it may have been handed out again. Buffers are not zeroed: an acquired
+ * buffer may contain data written by a previous user. Implementations MUST be thread-safe; a single buffer, however, is
+ * used by one thread at a time.
+ * </p>
+ * <p>
+ * If the {@link #LEAK_DETECTION_PROPERTY} is enabled, the pool records where each buffer has been acquired and reports
+ * buffers that became unreachable without having been released, e.g. in the log, including the recorded location. As
+ * this is expensive, leak detection is meant to be enabled while debugging only.
+ * </p>
+ *
+ * <pre>
+ * public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+ *     BufferPool pool = context.getBufferPool();
+ *     ByteBuffer buffer = pool.acquire(8192);
+ *     try {
+ *         ...
+ *     } finally {
+ *         pool.release(buffer);
+ *     }
+ * }
+ * </pre>
+ *
+ * @see jakarta.ws.rs.core.Context
+ * @since 4.0
+ */
+public interface BufferPool {
+
+    /**
+     * Name of the configuration property enabling the detection of buffers that are not released.
+     * <p>
+     * The property can be set on an {@link jakarta.ws.rs.core.Application#getProperties() application} or a
+     * {@link jakarta.ws.rs.client.Client}. The value MUST be a {@code Boolean} or a {@code String} holding
+     * {@code "true"} or {@code "false"}. If the property is absent, leak detection is disabled.
+     * </p>
+     */
+    public static final String LEAK_DETECTION_PROPERTY = "jakarta.ws.rs.ext.BufferPool.leakDetection";
+
+    /**
+     * Acquire a heap buffer from the pool.
+     * <p>
+     * The buffer is backed by an accessible array, its position is zero and its limit is equal to its capacity, which is
+     * at least {@code minCapacity}.
+     * </p>
+     *
+     * @param minCapacity minimum capacity of the buffer in bytes. Must not be negative.
+     * @return heap buffer.
+     * @throws IllegalArgumentException in case {@code minCapacity} is negative.
+     */
+    public ByteBuffer acquire(int minCapacity);
+
+    /**
+     * Acquire a direct buffer from the pool.
+     * <p>
+     * The buffer is {@link ByteBuffer#isDirect() direct}, its position is zero and its limit is equal to its capacity,
+     * which is at least {@code minCapacity}. Direct buffers are suited for data that is exchanged with the connection,
+     * e.g. by means of a {@link ChannelMessageBodyWriter}, but not for processing by Java code.
+     * </p>
+     *
+     * @param minCapacity minimum capacity of the buffer in bytes. Must not be negative.
+     * @return direct buffer.
+     * @throws IllegalArgumentException in case {@code minCapacity} is negative.
+     */
+    public ByteBuffer acquireDirect(int minCapacity);
+
+    /**
+     * Release a buffer to the pool.
+     * <p>
+     * The position, limit and mark of the buffer need not be reset before; a buffer derived from an acquired buffer, e.g.
+     * by {@link ByteBuffer#slice()}, cannot be released in its place.
+     * </p>
+     *
+     * @param buffer buffer acquired from this pool.
+     * @throws IllegalArgumentException in case {@code buffer} is {@code null} or has not been acquired from this pool.
+     * @throws IllegalStateException MAY be thrown in case {@code buffer} has been released already.
+     */
+    public void release(ByteBuffer buffer);
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.channels.GatheringByteChannel;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Extension of the {@link MessageBodyWriter} contract for writers that hold the serialized form of an entity in
+ * {@link java.nio.ByteBuffer}s or {@link java.nio.channels.FileChannel}s already.
+ * <p>
+ * Instead of an {@link OutputStream}, such a writer is handed a {@link GatheringByteChannel} for the HTTP entity. It can
+ * pass several buffers at once to {@link GatheringByteChannel#write(java.nio.ByteBuffer[])}, including direct buffers,
+ * which implementations SHOULD hand to the connection without copying them into the Java heap, e.g. by a single
+ * gathering write to the socket. A writer holding a file can pass the channel to
+ * {@link java.nio.channels.FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which allows the
+ * operating system to send the file without copying.
+ * </p>
+ * <p>
+ * Implementations SHOULD invoke {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap,
+ * GatheringByteChannel)} if the {@link WriterInterceptorContext#getOutputStream() output stream} has not been replaced by
+ * a {@link WriterInterceptor}; otherwise, and whenever no channel to the connection is available, they invoke
+ * {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap, OutputStream)}. Its default
+ * implementation adapts the output stream to a channel and delegates to the channel variant, so writers need to
+ * implement the channel variant only.
+ * </p>
+ *
+ * @param <T> the type that can be written.
+ * @see jakarta.ws.rs.core.FileRegion
+ * @since 4.0
+ */
+public interface ChannelMessageBodyWriter<T> extends MessageBodyWriter<T> {
+
+    /**
+     * Write a type to an HTTP message using a channel. The message header map is mutable but any changes must be made
+     * before writing to the channel since the headers will be flushed prior to writing the message body.
+     * <p>
+     * The channel writes all {@link java.nio.ByteBuffer#remaining() remaining} bytes of the given buffers before it
+     * returns, i.e. it behaves like a channel in blocking mode. Once a write method has returned, the writer MAY modify or
+     * reuse the buffers.
+     * </p>
+     *
+     * @param t the instance to write.
+     * @param type the class of instance that is to be written.
+     * @param genericType the type of instance to be written. {@link jakarta.ws.rs.core.GenericEntity} provides a way to
+     * specify this information at runtime.
+     * @param annotations an array of the annotations attached to the message entity instance.
+     * @param mediaType the media type of the HTTP entity.
+     * @param httpHeaders a mutable map of the HTTP message headers.
+     * @param entityChannel the channel for the HTTP entity. The implementation must not close the channel.
+     * @throws java.io.IOException if an IO error arises.
+     * @throws jakarta.ws.rs.WebApplicationException if a specific HTTP error response needs to be produced. Only effective if
+     * thrown prior to the message being committed.
+     */
+    public void writeTo(T t, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders,
+            GatheringByteChannel entityChannel)
+            throws IOException, WebApplicationException;
+
+    /**
+     * Write a type to an HTTP message using an output stream.
+     * <p>
+     * The default implementation invokes
+     * {@link #writeTo(Object, Class, Type, Annotation[], MediaType, MultivaluedMap, GatheringByteChannel)} with a channel
+     * writing to {@code entityStream}. Bytes of heap buffers are written directly from their backing array, bytes of
+     * other buffers are copied in chunks. Closing that channel has no effect, so the output stream is not closed.
+     * </p>
+     */
+    @Override
+    public default void writeTo(final T t, final Class<?> type, final Type genericType, final Annotation[] annotations,
+            final MediaType mediaType,
+            final MultivaluedMap<String, Object> httpHeaders,
+            final OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        writeTo(t, type, genericType, annotations, mediaType, httpHeaders, new OutputStreamChannel(entityStream));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+
+/**
+ * Publisher reading chunks from an input stream on the thread requesting them, used by the default stream variant of
+ * {@link AsyncMessageBodyReader}. A single buffer is reused for all chunks. The stream is not closed.
+ */
+final class InputStreamPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final InputStream in;
+
+    private boolean subscribed;
+
+    InputStreamPublisher(final InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        final boolean first;
+        synchronized (this) {
+            first = !subscribed;
+            subscribed = true;
+        }
+        if (first) {
+            subscriber.onSubscribe(new StreamSubscription(subscriber));
+        } else {
+            subscriber.onSubscribe(new StreamSubscription(null));
+            subscriber.onError(new IllegalStateException("The entity can be subscribed to only once"));
+        }
+    }
+
+    private final class StreamSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+        private ByteBuffer buffer;
+
+        private long demand;
+
+        private boolean draining;
+
+        private boolean done;
+
+        private StreamSubscription(final Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            this.done = subscriber == null;
+        }
+
+        @Override
+        public synchronized void request(final long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Non-positive demand " + n));
+                return;
+            }
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            // the loop keeps request() calls from within onNext from recursing
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                drain();
+            } finally {
+                draining = false;
+            }
+        }
+
+        private void drain() {
+            if (buffer == null) {
+                buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            }
+            while (!done && demand > 0) {
+                final int count;
+                try {
+                    count = in.read(buffer.array());
+                } catch (final IOException e) {
+                    done = true;
+                    subscriber.onError(e);
+                    return;
+                }
+                if (count < 0) {
+                    done = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                if (count > 0) {
+                    demand--;
+                    buffer.clear().limit(count);
+                    subscriber.onNext(buffer);
+                }
+            }
+        }
+
+        @Override
+        public synchronized void cancel() {
+            done = true;
+        }
+    }
+}
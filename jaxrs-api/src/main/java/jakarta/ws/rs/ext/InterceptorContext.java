@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -198,4 +198,18 @@ public interface InterceptorContext {
      * @param mediaType new type for HTTP entity
      */
     public void setMediaType(MediaType mediaType);
+
+    /**
+     * Get the pool to acquire temporary buffers from, e.g. for copying or transforming the entity.
+     * <p>
+     * The default implementation returns a pool that does not pool buffers: every acquired buffer is newly allocated and
+     * releasing a buffer has no effect. Implementations SHOULD override it to return the buffer pool of the runtime.
+     * </p>
+     *
+     * @return buffer pool of the runtime.
+     * @since 4.0
+     */
+    public default BufferPool getBufferPool() {
+        return UnpooledBufferPool.INSTANCE;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -40,6 +40,7 @@ import jakarta.ws.rs.core.MultivaluedMap;
  * @author Marc Hadley
  * @see Provider
  * @see jakarta.ws.rs.Consumes
+ * @see AsyncMessageBodyReader
  * @since 1.0
  */
 public interface MessageBodyReader<T> {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2019 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -19,6 +19,7 @@ package jakarta.ws.rs.ext;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.OptionalLong;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -40,10 +41,58 @@ import jakarta.ws.rs.core.MultivaluedMap;
  * @author Marc Hadley
  * @see Provider
  * @see jakarta.ws.rs.Produces
+ * @see ChannelMessageBodyWriter
  * @since 1.0
  */
 public interface MessageBodyWriter<T> {
 
+    /**
+     * Name of the configuration property holding the number of bytes of an entity the runtime buffers in order to compute
+     * the {@code Content-Length} header.
+     * <p>
+     * If neither the {@code Content-Length} header has been set nor a length is known in advance, see
+     * {@link #getContentLength(Object, Class, Type, Annotation[], MediaType)}, the runtime collects up to the given number
+     * of bytes written by the writer and the {@link WriterInterceptor writer interceptors} in a buffer taken from the
+     * {@link BufferPool}. If the entity is complete before the buffer is full, the {@code Content-Length} header is set to
+     * the number of bytes buffered and the entity is sent with a single write; otherwise the buffered bytes are sent
+     * followed by the rest of the entity, using chunked transfer coding or its equivalent in the HTTP version used.
+     * Entities that are flushed explicitly, e.g. by a {@link jakarta.ws.rs.core.StreamingOutput}, are not buffered beyond
+     * the flush.
+     * </p>
+     * <p>
+     * The property can be set on an {@link jakarta.ws.rs.core.Application#getProperties() application}, a
+     * {@link jakarta.ws.rs.client.Client} or a {@link jakarta.ws.rs.client.WebTarget}. The value MUST be an
+     * {@code Integer} or a {@code String} holding the number of bytes; zero disables buffering. If the property is absent,
+     * an implementation-specific buffer size is used.
+     * </p>
+     *
+     * @since 4.0
+     */
+    public static final String BUFFER_SIZE_PROPERTY = "jakarta.ws.rs.ext.MessageBodyWriter.bufferSize";
+
+    /**
+     * Name of the configuration property holding the number of elements after which the pre-packaged writers for
+     * streams of JSON texts flush the entity.
+     * <p>
+     * The pre-packaged writers for {@link java.util.stream.Stream}, {@link java.util.Iterator} and
+     * {@link java.util.concurrent.Flow.Publisher} entities of media type
+     * {@value jakarta.ws.rs.core.MediaType#APPLICATION_NDJSON} or {@value jakarta.ws.rs.core.MediaType#APPLICATION_JSON_SEQ}
+     * write the elements one at a time and flush the entity after the given number of elements, so that the client
+     * receives them while the stream is still being produced. A writer for a publisher additionally flushes whenever it
+     * waits for the next element. Larger values reduce the number of small writes, smaller values the latency of single
+     * elements.
+     * </p>
+     * <p>
+     * The property can be set on an {@link jakarta.ws.rs.core.Application#getProperties() application}, a
+     * {@link jakarta.ws.rs.client.Client} or a {@link jakarta.ws.rs.client.WebTarget}. The value MUST be a positive
+     * {@code Integer} or a {@code String} holding a positive number. If the property is absent, an
+     * implementation-specific number of elements is used.
+     * </p>
+     *
+     * @since 4.0
+     */
+    public static final String STREAM_FLUSH_SIZE_PROPERTY = "jakarta.ws.rs.ext.MessageBodyWriter.streamFlushSize";
+
     /**
      * Ascertain if the MessageBodyWriter supports a particular type.
      *
@@ -66,6 +115,10 @@ public interface MessageBodyWriter<T> {
      * All {@code MessageBodyWriter} implementations are advised to return {@code -1} from the method. Responsibility to
      * compute the actual {@code Content-Length} header value has been delegated to JAX-RS runtime.
      * </p>
+     * <p>
+     * As of JAX-RS 4.0, writers that can cheaply determine the length of the serialized form in advance implement
+     * {@link #getContentLength(Object, Class, Type, Annotation[], MediaType)} instead.
+     * </p>
      *
      * @param t the instance to write
      * @param type the class of instance that is to be written.
@@ -80,6 +133,35 @@ public interface MessageBodyWriter<T> {
         return -1L;
     }
 
+    /**
+     * Ascertain the length in bytes of the serialized form of {@code t} before {@code writeTo} is called, if it can be
+     * determined cheaply, e.g. for an entity already held as bytes or a file.
+     * <p>
+     * Unlike the value of {@link #getSize(Object, Class, Type, Annotation[], MediaType) getSize}, a returned length is
+     * used by the runtime: unless the {@code Content-Length} header has been set already or
+     * {@link WriterInterceptor writer interceptors} apply to the entity, the runtime sets the {@code Content-Length} header
+     * to the returned length and does not buffer the entity, see {@link #BUFFER_SIZE_PROPERTY}. A writer returning a
+     * length MUST write exactly that number of bytes; otherwise the runtime MUST abort the connection, as the message
+     * cannot be completed correctly. The method is invoked at most once per entity.
+     * </p>
+     * <p>
+     * The default implementation returns an empty length.
+     * </p>
+     *
+     * @param t the instance to write.
+     * @param type the class of instance that is to be written.
+     * @param genericType the type of instance to be written. {@link jakarta.ws.rs.core.GenericEntity} provides a way to
+     * specify this information at runtime.
+     * @param annotations an array of the annotations attached to the message entity instance.
+     * @param mediaType the media type of the HTTP entity.
+     * @return length in bytes, or an empty length if the length cannot be determined cheaply in advance.
+     * @since 4.0
+     */
+    public default OptionalLong getContentLength(final T t, final Class<?> type, final Type genericType,
+            final Annotation[] annotations, final MediaType mediaType) {
+        return OptionalLong.empty();
+    }
+
     /**
      * Write a type to an HTTP message. The message header map is mutable but any changes must be made before writing to the
      * output stream since the headers will be flushed prior to writing the message body.
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * Gathering channel writing to an output stream, used by the default stream variant of
+ * {@link ChannelMessageBodyWriter}. The channel is owned by the runtime, so closing it has no effect: it stays open and
+ * the stream is not closed.
+ */
+final class OutputStreamChannel implements GatheringByteChannel {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final OutputStream out;
+
+    private byte[] chunk;
+
+    OutputStreamChannel(final OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public int write(final ByteBuffer src) throws IOException {
+        final int length = src.remaining();
+        if (src.hasArray()) {
+            out.write(src.array(), src.arrayOffset() + src.position(), length);
+            src.position(src.limit());
+        } else {
+            if (chunk == null) {
+                chunk = new byte[CHUNK_SIZE];
+            }
+            while (src.hasRemaining()) {
+                final int count = Math.min(src.remaining(), chunk.length);
+                src.get(chunk, 0, count);
+                out.write(chunk, 0, count);
+            }
+        }
+        return length;
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs, final int offset, final int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > srcs.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+        long written = 0;
+        for (int i = offset; i < offset + length; i++) {
+            written += write(srcs[i]);
+        }
+        return written;
+    }
+
+    @Override
+    public long write(final ByteBuffer[] srcs) throws IOException {
+        return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        // the channel and the underlying stream are owned by the runtime
+    }
+}
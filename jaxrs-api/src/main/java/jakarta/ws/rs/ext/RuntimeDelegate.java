@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,6 +22,11 @@ import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.SeBootstrap;
 import jakarta.ws.rs.SeBootstrap.Instance;
+import jakarta.ws.rs.client.ConcurrencyLimitFeature;
+import jakarta.ws.rs.client.ContentEncodingFeature;
+import jakarta.ws.rs.client.IdempotencyKeyFeature;
+import jakarta.ws.rs.client.LoadBalancingFeature;
+import jakarta.ws.rs.container.IdempotencyFeature;
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.Link;
@@ -277,4 +282,64 @@ public abstract class RuntimeDelegate {
      * @since 3.1
      */
     public abstract EntityPart.Builder createEntityPartBuilder(String partName) throws IllegalArgumentException;
+
+    /**
+     * Create a new instance of a {@link jakarta.ws.rs.client.ConcurrencyLimitFeature.Builder}.
+     * <p>
+     * <em>This method is not intended to be invoked by applications. Call {@link ConcurrencyLimitFeature#builder()}
+     * instead.</em>
+     * </p>
+     *
+     * @return new {@code ConcurrencyLimitFeature.Builder} instance.
+     * @since 4.0
+     */
+    public abstract ConcurrencyLimitFeature.Builder createConcurrencyLimitFeatureBuilder();
+
+    /**
+     * Create a new instance of a {@link jakarta.ws.rs.client.LoadBalancingFeature.Builder}.
+     * <p>
+     * <em>This method is not intended to be invoked by applications. Call {@link LoadBalancingFeature#builder()}
+     * instead.</em>
+     * </p>
+     *
+     * @return new {@code LoadBalancingFeature.Builder} instance.
+     * @since 4.0
+     */
+    public abstract LoadBalancingFeature.Builder createLoadBalancingFeatureBuilder();
+
+    /**
+     * Create a new instance of a {@link jakarta.ws.rs.client.ContentEncodingFeature.Builder}.
+     * <p>
+     * <em>This method is not intended to be invoked by applications. Call {@link ContentEncodingFeature#builder()}
+     * instead.</em>
+     * </p>
+     *
+     * @return new {@code ContentEncodingFeature.Builder} instance.
+     * @since 4.0
+     */
+    public abstract ContentEncodingFeature.Builder createContentEncodingFeatureBuilder();
+
+    /**
+     * Create a new instance of a {@link jakarta.ws.rs.client.IdempotencyKeyFeature.Builder}.
+     * <p>
+     * <em>This method is not intended to be invoked by applications. Call {@link IdempotencyKeyFeature#builder()}
+     * instead.</em>
+     * </p>
+     *
+     * @return new {@code IdempotencyKeyFeature.Builder} instance.
+     * @since 4.0
+     */
+    public abstract IdempotencyKeyFeature.Builder createIdempotencyKeyFeatureBuilder();
+
+    /**
+     * Create a new instance of a {@link jakarta.ws.rs.container.IdempotencyFeature.Builder}.
+     * <p>
+     * <em>This method is not intended to be invoked by applications. Call {@link IdempotencyFeature#builder()}
+     * instead.</em>
+     * </p>
+     *
+     * @return new {@code IdempotencyFeature.Builder} instance.
+     * @since 4.0
+     */
+    public abstract IdempotencyFeature.Builder createIdempotencyFeatureBuilder();
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.ext;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Buffer pool that does not pool buffers, used by the default implementation of
+ * {@link InterceptorContext#getBufferPool()}. Each acquired buffer is newly allocated and released buffers are left to
+ * the garbage collector.
+ */
+final class UnpooledBufferPool implements BufferPool {
+
+    static final UnpooledBufferPool INSTANCE = new UnpooledBufferPool();
+
+    private UnpooledBufferPool() {
+    }
+
+    @Override
+    public ByteBuffer acquire(final int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("minCapacity must not be negative");
+        }
+        return ByteBuffer.allocate(minCapacity);
+    }
+
+    @Override
+    public ByteBuffer acquireDirect(final int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("minCapacity must not be negative");
+        }
+        return ByteBuffer.allocateDirect(minCapacity);
+    }
+
+    @Override
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer must not be null");
+        }
+    }
+}
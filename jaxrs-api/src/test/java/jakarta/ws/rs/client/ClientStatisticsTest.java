@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ClientStatisticsTest {
+
+    @Test
+    public void shouldDeriveActiveConnections() {
+        ClientStatistics statistics = new ClientStatistics.Builder()
+                .openConnections(10)
+                .idleConnections(4)
+                .pendingAcquisitions(2)
+                .bytesSent(100)
+                .bytesReceived(200)
+                .tlsSessionStatistics(new TlsSessionStatistics(1, 9))
+                .build();
+
+        assertThat(statistics.getActiveConnections(), is(6));
+        assertThat(statistics.getPendingAcquisitions(), is(2));
+        assertThat(statistics.getTlsSessionStatistics().getResumptionRatio(), is(0.9));
+    }
+
+    @Test
+    public void shouldDefaultToZero() {
+        ClientStatistics statistics = new ClientStatistics.Builder().build();
+
+        assertThat(statistics.getOpenConnections(), is(0));
+        assertThat(statistics.getBytesSent(), is(0L));
+        assertThat(statistics.getTlsSessionStatistics(), is(new TlsSessionStatistics(0, 0)));
+        assertThat(statistics, is(new ClientStatistics.Builder().build()));
+    }
+
+    @Test
+    public void shouldRejectMoreIdleThanOpenConnections() {
+        try {
+            new ClientStatistics.Builder().openConnections(1).idleConnections(2).build();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectNegativeValues() {
+        try {
+            new ClientStatistics.Builder().bytesReceived(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
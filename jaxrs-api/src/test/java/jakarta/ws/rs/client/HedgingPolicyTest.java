@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void shouldBoundObservedHedgingDelay() {
+        HedgingPolicy policy = new HedgingPolicy.Builder()
+                .minDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(100))
+                .build();
+
+        assertEquals(Duration.ofMillis(100), policy.hedgingDelay(null));
+        assertEquals(Duration.ofMillis(10), policy.hedgingDelay(Duration.ofMillis(1)));
+        assertEquals(Duration.ofMillis(42), policy.hedgingDelay(Duration.ofMillis(42)));
+        assertEquals(Duration.ofMillis(100), policy.hedgingDelay(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    public void shouldPreferFixedHedgingDelay() {
+        HedgingPolicy policy = new HedgingPolicy.Builder().fixedDelay(Duration.ofMillis(7)).build();
+
+        assertEquals(Duration.ofMillis(7), policy.hedgingDelay(Duration.ofMillis(42)));
+        assertTrue(policy.isHedgeable("GET"));
+        assertFalse(policy.isHedgeable("POST"));
+    }
+}
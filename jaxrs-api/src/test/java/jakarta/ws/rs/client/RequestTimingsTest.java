@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RequestTimingsTest {
+
+    @Test
+    public void shouldSumConnectionSetup() {
+        RequestTimings timings = new RequestTimings(false, Duration.ofMillis(2), Duration.ofMillis(5), Duration.ofMillis(20),
+                Duration.ofMillis(40));
+
+        assertThat(timings.getConnectionSetup(), is(Duration.ofMillis(27)));
+        assertThat(timings.getTimeToFirstByte(), is(Duration.ofMillis(40)));
+    }
+
+    @Test
+    public void shouldRejectSetupDurationsForReusedConnection() {
+        try {
+            new RequestTimings(true, Duration.ZERO, Duration.ofMillis(1), Duration.ZERO, Duration.ofMillis(40));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertThat(new RequestTimings(true, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ofMillis(1))
+                .getConnectionSetup(), is(Duration.ZERO));
+    }
+
+    @Test
+    public void shouldRejectInvalidDurations() {
+        for (Duration invalid : new Duration[] {null, Duration.ofMillis(-1)}) {
+            try {
+                new RequestTimings(false, Duration.ZERO, Duration.ZERO, Duration.ZERO, invalid);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.time.Duration;
+
+import jakarta.ws.rs.ProcessingException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class RetryPolicyTest {
+
+    @Test
+    public void shouldGrowBackoffExponentiallyUpToMaximum() {
+        RetryPolicy policy = new RetryPolicy.Builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(500))
+                .multiplier(2.0)
+                .jitter(0.0)
+                .build();
+
+        assertEquals(Duration.ofMillis(100), policy.delayBefore(1));
+        assertEquals(Duration.ofMillis(200), policy.delayBefore(2));
+        assertEquals(Duration.ofMillis(400), policy.delayBefore(3));
+        assertEquals(Duration.ofMillis(500), policy.delayBefore(4));
+    }
+
+    @Test
+    public void shouldKeepJitteredBackoffWithinBounds() {
+        RetryPolicy policy = new RetryPolicy.Builder().initialBackoff(Duration.ofMillis(100)).jitter(1.0).build();
+
+        for (int i = 0; i < 100; i++) {
+            Duration delay = policy.delayBefore(1);
+            assertFalse(delay.isNegative());
+            assertTrue(delay.compareTo(Duration.ofMillis(100)) <= 0);
+        }
+    }
+
+    @Test
+    public void shouldOnlyRetryIdempotentMethodsByDefault() {
+        RetryPolicy policy = new RetryPolicy.Builder().build();
+
+        assertTrue(policy.shouldRetry("GET", 1, 503));
+        assertTrue(policy.shouldRetry("put", 1, 502));
+        assertTrue(policy.shouldRetry("TRACE", 1, 503));
+        assertFalse(policy.shouldRetry("POST", 1, 503));
+        assertFalse(policy.shouldRetry("GET", 1, 500));
+        assertFalse(policy.shouldRetry("GET", policy.getMaxAttempts(), 503));
+
+        RetryPolicy unsafe = new RetryPolicy.Builder(policy).retryNonIdempotent(true).build();
+        assertTrue(unsafe.shouldRetry("POST", 1, 503));
+    }
+
+    @Test
+    public void shouldRetryTransientProcessingFailuresOnly() {
+        RetryPolicy policy = new RetryPolicy.Builder().build();
+
+        assertTrue(policy.shouldRetry("GET", 1, new ProcessingException("connection reset")));
+        assertFalse(policy.shouldRetry("GET", 1, new ResponseProcessingException(null, "broken entity")));
+        assertFalse(policy.shouldRetry("GET", 1, new IllegalStateException()));
+    }
+
+    @Test
+    public void shouldCopyAllValuesFromExistingPolicy() {
+        RetryPolicy policy = new RetryPolicy.Builder().maxAttempts(5).retryableStatuses(429).jitter(0.25).build();
+
+        assertThat(new RetryPolicy.Builder(policy).build(), equalTo(policy));
+        assertThat(new RetryPolicy.Builder(policy).maxAttempts(2).build(), not(equalTo(policy)));
+    }
+
+    @Test
+    public void shouldRejectInvalidValues() {
+        try {
+            new RetryPolicy.Builder().maxAttempts(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new RetryPolicy.Builder().jitter(1.5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+        }
+
+        try {
+            new RetryPolicy.Builder().initialBackoff(Duration.ofSeconds(5)).maxBackoff(Duration.ofSeconds(1)).build();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+        }
+    }
+}
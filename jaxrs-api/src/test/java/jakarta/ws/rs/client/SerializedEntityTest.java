@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MediaType;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class SerializedEntityTest {
+
+    private static final byte[] JSON = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void shouldNotBeAffectedByModificationsOfTheArrays() {
+        byte[] bytes = JSON.clone();
+        SerializedEntity serialized = new SerializedEntity(bytes, MediaType.APPLICATION_JSON_TYPE);
+
+        bytes[0] = 'x';
+        serialized.toByteArray()[1] = 'x';
+
+        assertArrayEquals(JSON, serialized.toByteArray());
+        assertThat(serialized.getLength(), is(JSON.length));
+    }
+
+    @Test
+    public void shouldProvideIndependentReadOnlyBuffers() {
+        SerializedEntity serialized = new SerializedEntity(JSON, MediaType.APPLICATION_JSON_TYPE);
+
+        ByteBuffer first = serialized.asByteBuffer();
+        first.get(new byte[3]);
+        ByteBuffer second = serialized.asByteBuffer();
+
+        assertTrue(first.isReadOnly());
+        assertThat(second.position(), is(0));
+        assertThat(second.remaining(), is(JSON.length));
+    }
+
+    @Test
+    public void shouldWriteBytesUnchanged() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new SerializedEntity(JSON, MediaType.APPLICATION_JSON_TYPE).writeTo(out);
+
+        assertArrayEquals(JSON, out.toByteArray());
+    }
+
+    @Test
+    public void shouldCreateEntityWithVariantOfSerializedEntity() {
+        SerializedEntity serialized = new SerializedEntity(JSON, MediaType.APPLICATION_JSON_TYPE);
+
+        Entity<SerializedEntity> entity = Entity.serialized(serialized);
+
+        assertThat(entity.getEntity(), is(serialized));
+        assertThat(entity.getVariant(), is(serialized.getVariant()));
+    }
+
+    @Test
+    public void shouldCompareByValue() {
+        assertThat(new SerializedEntity(JSON, MediaType.APPLICATION_JSON_TYPE),
+                is(new SerializedEntity(JSON.clone(), MediaType.APPLICATION_JSON_TYPE)));
+        assertThat(new SerializedEntity(JSON, MediaType.APPLICATION_JSON_TYPE),
+                is(not(new SerializedEntity(JSON, MediaType.TEXT_PLAIN_TYPE))));
+    }
+
+    @Test
+    public void shouldRejectNullBytes() {
+        try {
+            new SerializedEntity(null, MediaType.APPLICATION_JSON_TYPE);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
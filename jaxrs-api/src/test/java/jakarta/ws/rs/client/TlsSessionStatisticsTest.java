@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TlsSessionStatisticsTest {
+
+    @Test
+    public void shouldComputeResumptionRatio() {
+        TlsSessionStatistics statistics = new TlsSessionStatistics(1, 3);
+
+        assertThat(statistics.getHandshakes(), is(4L));
+        assertThat(statistics.getResumptionRatio(), is(0.75));
+        assertThat(new TlsSessionStatistics(2, 0).getResumptionRatio(), is(0.0));
+    }
+
+    @Test
+    public void shouldReportZeroRatioWithoutHandshakes() {
+        assertThat(new TlsSessionStatistics(0, 0).getResumptionRatio(), is(0.0));
+    }
+
+    @Test
+    public void shouldRejectNegativeCounts() {
+        for (long[] counts : new long[][] {{-1, 0}, {0, -1}}) {
+            try {
+                new TlsSessionStatistics(counts[0], counts[1]);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompareByValue() {
+        assertThat(new TlsSessionStatistics(1, 2), is(new TlsSessionStatistics(1, 2)));
+        assertThat(new TlsSessionStatistics(1, 2).hashCode(), is(new TlsSessionStatistics(1, 2).hashCode()));
+        assertThat(new TlsSessionStatistics(1, 2), is(not(new TlsSessionStatistics(2, 1))));
+    }
+}
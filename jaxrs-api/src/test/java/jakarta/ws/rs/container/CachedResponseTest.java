@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.container.IdempotencyCache.CachedResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class CachedResponseTest {
+
+    @Test
+    public void shouldCopyHeadersAndEntity() {
+        Map<String, List<String>> headers = new HashMap<>();
+        List<String> location = new ArrayList<>(Collections.singletonList("/orders/1"));
+        headers.put("Location", location);
+        byte[] entity = {1, 2, 3};
+
+        CachedResponse response = new CachedResponse(201, headers, entity);
+        location.add("/orders/2");
+        headers.put("ETag", Collections.singletonList("\"1\""));
+        entity[0] = 0;
+        response.getEntity()[1] = 0;
+
+        assertThat(response.getHeaders(), is(Collections.singletonMap("Location", Collections.singletonList("/orders/1"))));
+        assertArrayEquals(new byte[] {1, 2, 3}, response.getEntity());
+        assertThat(response.getEntityLength(), is(3));
+    }
+
+    @Test
+    public void shouldExposeImmutableHeaders() {
+        CachedResponse response = new CachedResponse(200, Collections.singletonMap("Vary", Arrays.asList("Accept")),
+                new byte[0]);
+
+        try {
+            response.getHeaders().get("Vary").add("Accept-Encoding");
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidStatus() {
+        for (int status : new int[] {0, 99, 1000}) {
+            try {
+                new CachedResponse(status, Collections.emptyMap(), new byte[0]);
+                fail("Expected IllegalArgumentException for " + status);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void shouldCompareByValue() {
+        assertThat(new CachedResponse(200, Collections.emptyMap(), new byte[] {1}),
+                is(new CachedResponse(200, Collections.emptyMap(), new byte[] {1})));
+        assertThat(new CachedResponse(200, Collections.emptyMap(), new byte[] {1}),
+                is(not(new CachedResponse(200, Collections.emptyMap(), new byte[] {2}))));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class ByteRangeTest {
+
+    @Test
+    public void shouldParseAllKindsOfRanges() {
+        List<ByteRange> ranges = ByteRange.parse("Bytes = 0-499, 1000- ,-200,");
+
+        assertThat(ranges, is(Arrays.asList(ByteRange.of(0, 499), ByteRange.from(1000), ByteRange.suffix(200))));
+    }
+
+    @Test
+    public void shouldRejectInvalidHeaders() {
+        for (String header : Arrays.asList("items=0-1", "bytes=", "bytes=1", "bytes=5-4", "bytes=a-b", "bytes=-",
+                "bytes=+1-2", "bytes=99999999999999999999-")) {
+            try {
+                ByteRange.parse(header);
+                fail("Expected IllegalArgumentException for " + header);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void shouldResolveAgainstLength() {
+        assertThat(ByteRange.of(10, 15).resolve(36), is(ByteRange.of(10, 15)));
+        assertThat(ByteRange.of(30, 99).resolve(36), is(ByteRange.of(30, 35)));
+        assertThat(ByteRange.from(20).resolve(36), is(ByteRange.of(20, 35)));
+        assertThat(ByteRange.suffix(4).resolve(36), is(ByteRange.of(32, 35)));
+        assertThat(ByteRange.suffix(100).resolve(36), is(ByteRange.of(0, 35)));
+    }
+
+    @Test
+    public void shouldDetectUnsatisfiableRanges() {
+        assertThat(ByteRange.of(36, 40).isSatisfiable(36), is(false));
+        assertThat(ByteRange.from(0).isSatisfiable(0), is(false));
+        assertThat(ByteRange.suffix(0).isSatisfiable(36), is(false));
+        assertThat(ByteRange.suffix(1).isSatisfiable(0), is(false));
+        try {
+            ByteRange.from(36).resolve(36);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldFormatRanges() {
+        assertThat(ByteRange.of(0, 499).toString(), is("0-499"));
+        assertThat(ByteRange.from(1000).toString(), is("1000-"));
+        assertThat(ByteRange.suffix(200).toString(), is("-200"));
+        assertThat(ByteRange.suffix(4).toContentRange(36), is("bytes 32-35/36"));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class DeadlineTest {
+
+    @Test
+    public void shouldExpireNonPositiveTimeouts() {
+        final Deadline expired = Deadline.after(Duration.ofSeconds(-1));
+
+        assertTrue(expired.isExpired());
+        assertTrue(Deadline.after(Duration.ZERO).isExpired());
+        assertThat(expired.remaining(), is(Duration.ZERO));
+        assertThat(expired.remaining(TimeUnit.MILLISECONDS), is(0L));
+        assertThat(expired.toHeaderValue(), is("0"));
+    }
+
+    @Test
+    public void shouldReportRemainingTime() {
+        final Deadline deadline = Deadline.after(Duration.ofHours(1));
+
+        assertFalse(deadline.isExpired());
+        final long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining > TimeUnit.MINUTES.toMillis(59) && remaining <= TimeUnit.HOURS.toMillis(1));
+        assertTrue(Long.parseLong(deadline.toHeaderValue()) <= remaining);
+    }
+
+    @Test
+    public void shouldSaturateHugeTimeouts() {
+        assertFalse(Deadline.after(Duration.ofSeconds(Long.MAX_VALUE)).isExpired());
+        assertTrue(Deadline.after(Duration.ofSeconds(Long.MIN_VALUE)).isExpired());
+        assertFalse(Deadline.fromHeaderValue("99999999999999999999999").isExpired());
+    }
+
+    @Test
+    public void shouldParseHeaderValues() {
+        final long remaining = Deadline.fromHeaderValue(" 5000 ").remaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining > 4000 && remaining <= 5000);
+        assertTrue(Deadline.fromHeaderValue("0").isExpired());
+
+        for (final String invalid : new String[] {null, "", " ", "-1", "1.5", "1s", "+1"}) {
+            try {
+                Deadline.fromHeaderValue(invalid);
+                fail("Expected IllegalArgumentException for " + invalid);
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void shouldOrderByExpiry() {
+        final Deadline early = Deadline.after(Duration.ofSeconds(1));
+        final Deadline late = Deadline.after(Duration.ofSeconds(10));
+
+        assertTrue(early.compareTo(late) < 0);
+        assertTrue(late.compareTo(early) > 0);
+        assertThat(early.compareTo(early), is(0));
+        assertThat(early.earliest(late), is(sameInstance(early)));
+        assertThat(late.earliest(early), is(sameInstance(early)));
+        assertThat(late.earliest(null), is(sameInstance(late)));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.ws.rs.client.Entity;
+
+import org.junit.jupiter.api.Test;
+
+public class FileRegionTest {
+
+    @Test
+    public void shouldRejectInvalidRegion() throws IOException {
+        try {
+            new FileRegion(null, 0, 0);
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        withChannel(channel -> {
+            try {
+                new FileRegion(channel, -1, 0);
+                fail("Expected IllegalArgumentException");
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+            try {
+                new FileRegion(channel, 0, -1);
+                fail("Expected IllegalArgumentException");
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        });
+    }
+
+    @Test
+    public void shouldCompareByChannelAndBounds() throws IOException {
+        withChannel(channel -> {
+            final FileRegion region = new FileRegion(channel, 10, 20);
+            assertThat(region.getChannel(), is(sameInstance(channel)));
+            assertThat(region.getPosition(), is(10L));
+            assertThat(region.getCount(), is(20L));
+            assertThat(region, is(equalTo(new FileRegion(channel, 10, 20))));
+            assertThat(region.hashCode(), is(new FileRegion(channel, 10, 20).hashCode()));
+            assertThat(region, is(not(equalTo(new FileRegion(channel, 10, 21)))));
+            assertThat(region, is(not(equalTo(new FileRegion(channel, 11, 20)))));
+        });
+    }
+
+    @Test
+    public void shouldCreateFileEntities() throws IOException {
+        final Path file = Files.createTempFile("region", ".bin");
+        try {
+            final Entity<Path> pathEntity = Entity.file(file, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+            assertThat(pathEntity.getEntity(), is(file));
+            assertThat(pathEntity.getMediaType(), is(MediaType.APPLICATION_OCTET_STREAM_TYPE));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final FileRegion region = new FileRegion(channel, 0, 0);
+                final Entity<FileRegion> regionEntity = Entity.file(region, MediaType.TEXT_PLAIN_TYPE);
+                assertThat(regionEntity.getEntity(), is(sameInstance(region)));
+                assertThat(regionEntity.getMediaType(), is(MediaType.TEXT_PLAIN_TYPE));
+            }
+
+            try {
+                Entity.file((Path) null, MediaType.TEXT_PLAIN_TYPE);
+                fail("Expected IllegalArgumentException");
+            } catch (final IllegalArgumentException e) {
+                // expected
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void withChannel(final ChannelConsumer consumer) throws IOException {
+        final Path file = Files.createTempFile("region", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            consumer.accept(channel);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private interface ChannelConsumer {
+        void accept(FileChannel channel);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import java.io.IOException;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PartialEntityTest extends BaseDelegateTest {
+
+    private Path file;
+
+    private SeekableByteChannel source;
+
+    @BeforeEach
+    public void createSource() throws IOException {
+        file = Files.createTempFile("PartialEntityTest", ".txt");
+        Files.write(file, "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII));
+        source = Files.newByteChannel(file);
+    }
+
+    @AfterEach
+    public void deleteSource() throws IOException {
+        source.close();
+        Files.delete(file);
+    }
+
+    @Test
+    public void shouldResolveSatisfiableRangesOnly() throws IOException {
+        PartialEntity entity = new PartialEntity(source,
+                Arrays.asList(ByteRange.suffix(4), ByteRange.from(100), ByteRange.of(10, 15)));
+
+        assertThat(entity.getLength(), is(36L));
+        assertThat(entity.getRanges(), is(Arrays.asList(ByteRange.of(32, 35), ByteRange.of(10, 15))));
+    }
+
+    @Test
+    public void shouldRejectUnsatisfiableRanges() throws IOException {
+        try {
+            new PartialEntity(source, Collections.singletonList(ByteRange.of(36, 40)));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldCloseSourceIfNoRangeIsSatisfiable() throws IOException {
+        Response.partialContent(source, Collections.singletonList(ByteRange.of(36, 40)));
+
+        assertThat(source.isOpen(), is(false));
+    }
+
+    @Test
+    public void shouldKeepSourceOpenForSatisfiableRanges() throws IOException {
+        Response.partialContent(source, Collections.singletonList(ByteRange.of(0, 9)));
+
+        assertThat(source.isOpen(), is(true));
+    }
+
+    @Test
+    public void shouldProvideUnmodifiableRanges() throws IOException {
+        PartialEntity entity = new PartialEntity(source, Collections.singletonList(ByteRange.from(0)));
+
+        try {
+            entity.getRanges().clear();
+            fail("Expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.core;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ResponseTest {
+
+    private static final byte[] ENTITY = "0123456789".getBytes();
+
+    @Test
+    public void shouldReadEntityIntoHeapBuffer() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.put((byte) 'x');
+
+        assertThat(response.readEntityInto(buffer), is(new Response.TransferResult(10, false)));
+        assertThat(buffer.position(), is(11));
+        assertArrayEquals(("x" + new String(ENTITY)).getBytes(), Arrays.copyOf(buffer.array(), 11));
+        assertThat(response.entityClosed, is(true));
+    }
+
+    @Test
+    public void shouldTruncateEntityReadIntoDirectBuffer() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+
+        assertThat(response.readEntityInto(buffer), is(new Response.TransferResult(4, true)));
+        buffer.flip();
+        final byte[] read = new byte[4];
+        buffer.get(read);
+        assertArrayEquals("0123".getBytes(), read);
+        assertThat(response.entityClosed, is(true));
+    }
+
+    @Test
+    public void shouldNotTruncateEntityFittingExactly() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+
+        assertThat(response.readEntityInto(ByteBuffer.allocate(10)), is(new Response.TransferResult(10, false)));
+    }
+
+    @Test
+    public void shouldRejectReadOnlyBuffer() {
+        try {
+            new EntityResponse(ENTITY).readEntityInto(ByteBuffer.allocate(16).asReadOnlyBuffer());
+            fail("Expected ReadOnlyBufferException");
+        } catch (final ReadOnlyBufferException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldTransferEntityToChannel() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(response.transferEntityTo(Channels.newChannel(out)), is(new Response.TransferResult(10, false)));
+        assertArrayEquals(ENTITY, out.toByteArray());
+        assertThat(response.entityClosed, is(true));
+    }
+
+    @Test
+    public void shouldTruncateEntityTransferredToChannel() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(response.transferEntityTo(Channels.newChannel(out), 3), is(new Response.TransferResult(3, true)));
+        assertThat(new String(out.toByteArray()), is(equalTo("012")));
+
+        try {
+            new EntityResponse(ENTITY).transferEntityTo(Channels.newChannel(out), -1);
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectNegativeMemoryThreshold() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+
+        try {
+            response.bufferEntity(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (final IllegalArgumentException e) {
+            // expected
+        }
+        assertThat(response.bufferCount, is(0));
+    }
+
+    @Test
+    public void shouldFallBackToBufferEntity() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+
+        assertThat(response.bufferEntity(0), is(true));
+        assertThat(response.bufferCount, is(1));
+    }
+
+    @Test
+    public void shouldHaveNoEffectAfterBufferEntity() {
+        final EntityResponse response = new EntityResponse(ENTITY);
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        assertThat(response.bufferEntity(), is(true));
+        assertThat(response.bufferEntity(0), is(true));
+        assertThat(response.bufferEntity(Long.MAX_VALUE), is(true));
+
+        assertThat(response.readEntityInto(buffer), is(new Response.TransferResult(10, false)));
+        assertArrayEquals(ENTITY, Arrays.copyOf(buffer.array(), 10));
+    }
+
+    /**
+     * Response backed by an in-memory entity stream.
+     */
+    static class EntityResponse extends Response {
+
+        private final byte[] entity;
+
+        boolean entityClosed;
+
+        int bufferCount;
+
+        EntityResponse(final byte[] entity) {
+            this.entity = entity;
+        }
+
+        @Override
+        public int getStatus() {
+            return Status.OK.getStatusCode();
+        }
+
+        @Override
+        public StatusType getStatusInfo() {
+            return Status.OK;
+        }
+
+        @Override
+        public Object getEntity() {
+            return null;
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType) {
+            if (entityType != InputStream.class) {
+                throw new UnsupportedOperationException();
+            }
+            return entityType.cast(new ByteArrayInputStream(entity) {
+                @Override
+                public void close() {
+                    entityClosed = true;
+                }
+            });
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T readEntity(final Class<T> entityType, final Annotation[] annotations) {
+            return readEntity(entityType);
+        }
+
+        @Override
+        public <T> T readEntity(final GenericType<T> entityType, final Annotation[] annotations) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean hasEntity() {
+            return true;
+        }
+
+        @Override
+        public boolean bufferEntity() {
+            bufferCount++;
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public MediaType getMediaType() {
+            return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+
+        @Override
+        public Locale getLanguage() {
+            return null;
+        }
+
+        @Override
+        public int getLength() {
+            return entity.length;
+        }
+
+        @Override
+        public Set<String> getAllowedMethods() {
+            return null;
+        }
+
+        @Override
+        public Map<String, NewCookie> getCookies() {
+            return null;
+        }
+
+        @Override
+        public EntityTag getEntityTag() {
+            return null;
+        }
+
+        @Override
+        public Date getDate() {
+            return null;
+        }
+
+        @Override
+        public Date getLastModified() {
+            return null;
+        }
+
+        @Override
+        public URI getLocation() {
+            return null;
+        }
+
+        @Override
+        public Set<Link> getLinks() {
+            return null;
+        }
+
+        @Override
+        public boolean hasLink(final String relation) {
+            return false;
+        }
+
+        @Override
+        public Link getLink(final String relation) {
+            return null;
+        }
+
+        @Override
+        public Link.Builder getLinkBuilder(final String relation) {
+            return null;
+        }
+
+        @Override
+        public MultivaluedMap<String, Object> getMetadata() {
+            return null;
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getStringHeaders() {
+            return null;
+        }
+
+        @Override
+        public String getHeaderString(final String name) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class AsyncMessageBodyReaderTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Test
+    public void shouldReadEntityFromStreamInChunks() throws IOException {
+        byte[] entity = new byte[20000];
+        for (int i = 0; i < entity.length; i++) {
+            entity[i] = (byte) i;
+        }
+        BytesReader reader = new BytesReader(1);
+
+        byte[] read = reader.readFrom(byte[].class, byte[].class, NO_ANNOTATIONS, MediaType.APPLICATION_OCTET_STREAM_TYPE,
+                null, new ByteArrayInputStream(entity));
+
+        assertArrayEquals(entity, read);
+        assertThat(reader.chunks > 1, is(true));
+    }
+
+    @Test
+    public void shouldHonorUnboundedDemand() throws IOException {
+        byte[] entity = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+        byte[] read = new BytesReader(Long.MAX_VALUE).readFrom(byte[].class, byte[].class, NO_ANNOTATIONS,
+                MediaType.APPLICATION_JSON_TYPE, null, new ByteArrayInputStream(entity));
+
+        assertArrayEquals(entity, read);
+    }
+
+    @Test
+    public void shouldRethrowIOExceptionOfStream() {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        try {
+            new BytesReader(1).readFrom(byte[].class, byte[].class, NO_ANNOTATIONS, MediaType.WILDCARD_TYPE, null, failing);
+            fail("Expected IOException");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), is("connection reset"));
+        }
+    }
+
+    @Test
+    public void shouldRethrowUncheckedExceptionOfStage() throws IOException {
+        FailingReader reader = new FailingReader();
+
+        try {
+            reader.readFrom(Object.class, Object.class, NO_ANNOTATIONS, MediaType.WILDCARD_TYPE, null,
+                    new ByteArrayInputStream(new byte[0]));
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static final class BytesReader implements AsyncMessageBodyReader<byte[]> {
+
+        private final long demand;
+
+        private int chunks;
+
+        private BytesReader(final long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                final MediaType mediaType) {
+            return true;
+        }
+
+        @Override
+        public CompletionStage<byte[]> readFrom(final Class<byte[]> type, final Type genericType,
+                final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String, String> httpHeaders,
+                final Flow.Publisher<ByteBuffer> entityPublisher) {
+            final CompletableFuture<byte[]> result = new CompletableFuture<>();
+            entityPublisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+
+                private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(demand);
+                }
+
+                @Override
+                public void onNext(final ByteBuffer chunk) {
+                    chunks++;
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    out.write(bytes, 0, bytes.length);
+                    if (demand != Long.MAX_VALUE) {
+                        subscription.request(demand);
+                    }
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(out.toByteArray());
+                }
+            });
+            return result;
+        }
+    }
+
+    private static final class FailingReader implements AsyncMessageBodyReader<Object> {
+
+        @Override
+        public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                final MediaType mediaType) {
+            return true;
+        }
+
+        @Override
+        public CompletionStage<Object> readFrom(final Class<Object> type, final Type genericType,
+                final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String, String> httpHeaders,
+                final Flow.Publisher<ByteBuffer> entityPublisher) {
+            final CompletableFuture<Object> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalArgumentException());
+            return result;
+        }
+    }
+}
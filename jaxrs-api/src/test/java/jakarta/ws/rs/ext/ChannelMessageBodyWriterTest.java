@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.ws.rs.ext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class ChannelMessageBodyWriterTest {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    @Test
+    public void shouldWriteHeapAndDirectBuffersToStream() throws IOException {
+        byte[] large = new byte[20000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) i;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new BufferWriter(ByteBuffer.wrap("head:".getBytes(StandardCharsets.US_ASCII), 1, 3), direct(large))
+                .writeTo(null, Object.class, Object.class, NO_ANNOTATIONS, MediaType.APPLICATION_OCTET_STREAM_TYPE, null, out);
+
+        byte[] expected = new byte[3 + large.length];
+        System.arraycopy("ead".getBytes(StandardCharsets.US_ASCII), 0, expected, 0, 3);
+        System.arraycopy(large, 0, expected, 3, large.length);
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    public void shouldConsumeBuffersAndReportBytesWritten() throws IOException {
+        ByteBuffer heap = ByteBuffer.wrap(new byte[5]);
+        ByteBuffer direct = direct(new byte[7]);
+        BufferWriter writer = new BufferWriter(heap, direct);
+
+        writer.writeTo(null, Object.class, Object.class, NO_ANNOTATIONS, MediaType.WILDCARD_TYPE, null,
+                new ByteArrayOutputStream());
+
+        assertThat(writer.written, is(12L));
+        assertThat(heap.hasRemaining(), is(false));
+        assertThat(direct.hasRemaining(), is(false));
+    }
+
+    @Test
+    public void shouldIgnoreCloseOfChannel() throws IOException {
+        final boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        ClosingWriter writer = new ClosingWriter();
+
+        writer.writeTo(null, Object.class, Object.class, NO_ANNOTATIONS, MediaType.WILDCARD_TYPE, null, out);
+
+        assertThat(closed[0], is(false));
+        assertThat(writer.channel.isOpen(), is(true));
+        assertThat(writer.channel.write(ByteBuffer.wrap(new byte[] {42})), is(1));
+        assertArrayEquals(new byte[] {42}, out.toByteArray());
+    }
+
+    private static ByteBuffer direct(final byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer;
+    }
+
+    private abstract static class TestWriter implements ChannelMessageBodyWriter<Object> {
+
+        @Override
+        public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+                final MediaType mediaType) {
+            return true;
+        }
+    }
+
+    private static final class BufferWriter extends TestWriter {
+
+        private final ByteBuffer[] buffers;
+
+        private long written;
+
+        private BufferWriter(final ByteBuffer... buffers) {
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void writeTo(final Object t, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                final GatheringByteChannel entityChannel) throws IOException {
+            written = entityChannel.write(buffers);
+        }
+    }
+
+    private static final class ClosingWriter extends TestWriter {
+
+        private GatheringByteChannel channel;
+
+        @Override
+        public void writeTo(final Object t, final Class<?> type, final Type genericType, final Annotation[] annotations,
+                final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+                final GatheringByteChannel entityChannel) throws IOException {
+            channel = entityChannel;
+            entityChannel.close();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package jakarta.ws.rs.ext;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class UnpooledBufferPoolTest {
+
+    private final BufferPool pool = UnpooledBufferPool.INSTANCE;
+
+    @Test
+    public void shouldAllocateHeapAndDirectBuffers() {
+        ByteBuffer heap = pool.acquire(16);
+        ByteBuffer direct = pool.acquireDirect(16);
+
+        assertThat(heap.hasArray(), is(true));
+        assertThat(heap.remaining(), is(16));
+        assertThat(direct.isDirect(), is(true));
+        assertThat(direct.remaining(), is(16));
+    }
+
+    @Test
+    public void shouldNotReuseReleasedBuffers() {
+        ByteBuffer buffer = pool.acquire(16);
+        pool.release(buffer);
+
+        assertThat(pool.acquire(16) == buffer, is(false));
+    }
+
+    @Test
+    public void shouldRejectNegativeCapacity() {
+        try {
+            pool.acquire(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            pool.acquireDirect(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldRejectNullBuffer() {
+        try {
+            pool.release(null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+}
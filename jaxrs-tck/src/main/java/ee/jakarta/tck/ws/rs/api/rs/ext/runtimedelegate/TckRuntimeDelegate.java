@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,11 @@ import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.SeBootstrap;
 import jakarta.ws.rs.SeBootstrap.Instance;
+import jakarta.ws.rs.client.ConcurrencyLimitFeature;
+import jakarta.ws.rs.client.ContentEncodingFeature;
+import jakarta.ws.rs.client.IdempotencyKeyFeature;
+import jakarta.ws.rs.client.LoadBalancingFeature;
+import jakarta.ws.rs.container.IdempotencyFeature;
 import jakarta.ws.rs.core.Application;
 import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.Link;
@@ -72,6 +77,31 @@ public class TckRuntimeDelegate extends RuntimeDelegate {
     return null;
   }
 
+  @Override
+  public ConcurrencyLimitFeature.Builder createConcurrencyLimitFeatureBuilder() {
+    return null;
+  }
+
+  @Override
+  public LoadBalancingFeature.Builder createLoadBalancingFeatureBuilder() {
+    return null;
+  }
+
+  @Override
+  public ContentEncodingFeature.Builder createContentEncodingFeatureBuilder() {
+    return null;
+  }
+
+  @Override
+  public IdempotencyKeyFeature.Builder createIdempotencyKeyFeatureBuilder() {
+    return null;
+  }
+
+  @Override
+  public IdempotencyFeature.Builder createIdempotencyFeatureBuilder() {
+    return null;
+  }
+
   @Override
   public CompletionStage<Instance> bootstrap(Application application, SeBootstrap.Configuration configuration) {
     return null;
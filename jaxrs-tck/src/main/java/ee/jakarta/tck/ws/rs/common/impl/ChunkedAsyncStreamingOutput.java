@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.common.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.core.AsyncStreamingOutput;
+
+/**
+ * Emits a chunk a given number of times, strictly on demand, reusing a single
+ * buffer for all chunks. A container writing a chunk only partially before
+ * requesting the next one, or modifying it, produces a corrupted body.
+ */
+public class ChunkedAsyncStreamingOutput implements AsyncStreamingOutput {
+
+  private final byte[] chunk;
+
+  private final int count;
+
+  private final Throwable failure;
+
+  public ChunkedAsyncStreamingOutput(String chunk, int count) {
+    this(chunk, count, null);
+  }
+
+  /**
+   * @param failure signalled instead of completion once all chunks have been
+   *          emitted, may be null
+   */
+  public ChunkedAsyncStreamingOutput(String chunk, int count,
+      Throwable failure) {
+    this.chunk = chunk.getBytes(StandardCharsets.UTF_8);
+    this.count = count;
+    this.failure = failure;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    subscriber.onSubscribe(new ChunkSubscription(subscriber));
+  }
+
+  private class ChunkSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(chunk.length);
+
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private volatile boolean cancelled;
+
+    private int emitted;
+
+    private ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        cancelled = true;
+        subscriber.onError(new IllegalArgumentException(
+            "Non-positive demand " + n));
+        return;
+      }
+      demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    // the loop keeps request() calls from within onNext from recursing
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      do {
+        while (!cancelled && emitted < count && demand.get() > 0) {
+          demand.decrementAndGet();
+          emitted++;
+          buffer.clear();
+          buffer.put(chunk).flip();
+          subscriber.onNext(buffer);
+        }
+        if (!cancelled && emitted == count) {
+          cancelled = true;
+          if (failure == null) {
+            subscriber.onComplete();
+          } else {
+            subscriber.onError(failure);
+          }
+        }
+      } while (wip.decrementAndGet() != 0);
+    }
+  }
+}
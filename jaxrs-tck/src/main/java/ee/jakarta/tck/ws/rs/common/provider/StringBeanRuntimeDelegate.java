@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -28,6 +28,11 @@ import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.SeBootstrap;
 import jakarta.ws.rs.SeBootstrap.Instance;
+import jakarta.ws.rs.client.ConcurrencyLimitFeature;
+import jakarta.ws.rs.client.ContentEncodingFeature;
+import jakarta.ws.rs.client.IdempotencyKeyFeature;
+import jakarta.ws.rs.client.LoadBalancingFeature;
+import jakarta.ws.rs.container.IdempotencyFeature;
 
 public class StringBeanRuntimeDelegate extends RuntimeDelegate {
 
@@ -75,6 +80,31 @@ public class StringBeanRuntimeDelegate extends RuntimeDelegate {
     return original.createEntityPartBuilder(partName);
   }
 
+  @Override
+  public ConcurrencyLimitFeature.Builder createConcurrencyLimitFeatureBuilder() {
+    return original.createConcurrencyLimitFeatureBuilder();
+  }
+
+  @Override
+  public LoadBalancingFeature.Builder createLoadBalancingFeatureBuilder() {
+    return original.createLoadBalancingFeatureBuilder();
+  }
+
+  @Override
+  public ContentEncodingFeature.Builder createContentEncodingFeatureBuilder() {
+    return original.createContentEncodingFeatureBuilder();
+  }
+
+  @Override
+  public IdempotencyKeyFeature.Builder createIdempotencyKeyFeatureBuilder() {
+    return original.createIdempotencyKeyFeatureBuilder();
+  }
+
+  @Override
+  public IdempotencyFeature.Builder createIdempotencyFeatureBuilder() {
+    return original.createIdempotencyFeatureBuilder();
+  }
+
   @Override
   public CompletionStage<Instance> bootstrap(Application application, SeBootstrap.Configuration configuration) {
     return original.bootstrap(application, configuration);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import ee.jakarta.tck.ws.rs.common.impl.ChunkedAsyncStreamingOutput;
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.AsyncStreamingOutput;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Compliance Test for {@link AsyncStreamingOutput} on a Java SE Bootstrap instance.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 5, unit = MINUTES)
+public final class AsyncStreamingOutputIT {
+
+    private static final String CHUNK = "AsyncStreamingOutputIT;";
+
+    /**
+     * Verifies that all chunks are written completely, although the output reuses a single buffer for all chunks, i.e.
+     * that the next chunk is requested only after the previous one has been written.
+     */
+    @Test
+    public final void shouldWriteAllChunksOnDemand() {
+        // given
+        final int chunks = 50_000;
+
+        // when
+        final String entity = AsyncStreamingOutputIT.application.target().path("chunks").queryParam("count", chunks)
+                .request().get(String.class);
+
+        // then
+        assertThat(entity.length(), is(CHUNK.length() * chunks));
+        assertThat(entity, is(String.join("", Collections.nCopies(chunks, CHUNK))));
+    }
+
+    /**
+     * Verifies that an empty output produces an empty entity.
+     */
+    @Test
+    public final void shouldWriteEmptyEntity() {
+        // when
+        final String entity = AsyncStreamingOutputIT.application.target().path("chunks").queryParam("count", 0)
+                .request().get(String.class);
+
+        // then
+        assertThat(entity, is(""));
+    }
+
+    /**
+     * Verifies that a {@link WebApplicationException} signalled before any chunk produces the response of the exception.
+     */
+    @Test
+    public final void shouldMapWebApplicationExceptionSignalledBeforeFirstChunk() {
+        // when
+        final Response response = AsyncStreamingOutputIT.application.target().path("notfound").request().get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.NOT_FOUND.getStatusCode()));
+        response.close();
+    }
+
+    /**
+     * Verifies that any other exception signalled before any chunk produces an internal server error.
+     */
+    @Test
+    public final void shouldMapIOExceptionSignalledBeforeFirstChunk() {
+        // when
+        final Response response = AsyncStreamingOutputIT.application.target().path("ioexception").request().get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode()));
+        response.close();
+    }
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws InterruptedException, ExecutionException {
+        AsyncStreamingOutputIT.application = BootstrappedApplication.start(new StreamingApplication(),
+                "application/streaming");
+    }
+
+    @AfterAll
+    static void stopInstance() throws InterruptedException, ExecutionException {
+        AsyncStreamingOutputIT.application.stop();
+    }
+
+    @ApplicationPath("application")
+    public static final class StreamingApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            return Collections.<Class<?>>singleton(StreamingResource.class);
+        }
+
+        @Path("streaming")
+        public static final class StreamingResource {
+
+            @GET
+            @Path("chunks")
+            public final AsyncStreamingOutput chunks(@QueryParam("count") final int count) {
+                return new ChunkedAsyncStreamingOutput(CHUNK, count);
+            }
+
+            @GET
+            @Path("notfound")
+            public final AsyncStreamingOutput notFound() {
+                return new ChunkedAsyncStreamingOutput("", 0, new WebApplicationException(Response.Status.NOT_FOUND));
+            }
+
+            @GET
+            @Path("ioexception")
+            public final AsyncStreamingOutput ioException() {
+                return new ChunkedAsyncStreamingOutput("", 0, new IOException("AsyncStreamingOutputIT"));
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import java.util.concurrent.ExecutionException;
+
+import jakarta.ws.rs.SeBootstrap;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.UriBuilder;
+
+/**
+ * Application running on a Java SE Bootstrap instance bound to a free port of {@code localhost}, along with a client
+ * targeting it. Shared fixture of the compliance tests in this package that need a single running application.
+ *
+ * @since 4.0
+ */
+final class BootstrappedApplication {
+
+    private final SeBootstrap.Instance instance;
+
+    private final Client client;
+
+    private final WebTarget target;
+
+    private BootstrappedApplication(final SeBootstrap.Instance instance, final Client client, final String path) {
+        this.instance = instance;
+        this.client = client;
+        final SeBootstrap.Configuration actualConfiguration = instance.configuration();
+        this.target = client.target(UriBuilder.newInstance().scheme(actualConfiguration.protocol())
+                .host(actualConfiguration.host()).port(actualConfiguration.port()).path(actualConfiguration.rootPath())
+                .path(path));
+    }
+
+    /**
+     * Starts the application and creates a default client.
+     *
+     * @param application the application to start.
+     * @param path path of the target relative to the root path of the instance.
+     * @return the running application.
+     */
+    static BootstrappedApplication start(final Application application, final String path)
+            throws InterruptedException, ExecutionException {
+        return start(application, ClientBuilder.newBuilder(), path);
+    }
+
+    /**
+     * Starts the application and creates a client using the given builder.
+     *
+     * @param application the application to start.
+     * @param clientBuilder builder of the client targeting the application.
+     * @param path path of the target relative to the root path of the instance.
+     * @return the running application.
+     */
+    static BootstrappedApplication start(final Application application, final ClientBuilder clientBuilder,
+            final String path) throws InterruptedException, ExecutionException {
+        final SeBootstrap.Configuration configuration = SeBootstrap.Configuration.builder().protocol("HTTP")
+                .host("localhost").port(SeBootstrap.Configuration.FREE_PORT).rootPath("/").build();
+        final SeBootstrap.Instance instance = SeBootstrap.start(application, configuration).toCompletableFuture().get();
+        return new BootstrappedApplication(instance, clientBuilder.build(), path);
+    }
+
+    /**
+     * @return target of the path passed when starting the application.
+     */
+    WebTarget target() {
+        return this.target;
+    }
+
+    /**
+     * Closes the client and stops the instance.
+     */
+    void stop() throws InterruptedException, ExecutionException {
+        this.client.close();
+        this.instance.stop().toCompletableFuture().get();
+    }
+}
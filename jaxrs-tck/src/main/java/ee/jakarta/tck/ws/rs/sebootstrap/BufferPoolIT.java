@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.ext.BufferPool;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Compliance Test for the {@link BufferPool} on a Java SE Bootstrap instance.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 5, unit = MINUTES)
+public final class BufferPoolIT {
+
+    /**
+     * Verifies that a buffer pool injected into a resource hands out heap and direct buffers as specified.
+     */
+    @Test
+    public final void shouldInjectBufferPool() {
+        // when
+        final String result = BufferPoolIT.application.target().path("injected").request().get(String.class);
+
+        // then
+        assertThat(result, is("OK"));
+    }
+
+    /**
+     * Verifies that a writer interceptor can use buffers of the pool to transform the entity.
+     */
+    @Test
+    public final void shouldProvideBufferPoolToInterceptors() {
+        // when
+        final String result = BufferPoolIT.application.target().path("intercepted").request().get(String.class);
+
+        // then
+        assertThat(result, is("POOLED ENTITY"));
+    }
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws InterruptedException, ExecutionException {
+        BufferPoolIT.application = BootstrappedApplication.start(new PoolApplication(), "application/pool");
+    }
+
+    @AfterAll
+    static void stopInstance() throws InterruptedException, ExecutionException {
+        BufferPoolIT.application.stop();
+    }
+
+    @ApplicationPath("application")
+    public static final class PoolApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            final Set<Class<?>> classes = new HashSet<>();
+            classes.add(PoolResource.class);
+            classes.add(UpperCaseInterceptor.class);
+            return classes;
+        }
+
+        @Path("pool")
+        public static final class PoolResource {
+
+            @Context
+            private BufferPool pool;
+
+            @GET
+            @Path("injected")
+            public final String injected() {
+                final ByteBuffer heap = this.pool.acquire(1000);
+                final ByteBuffer direct = this.pool.acquireDirect(1000);
+                try {
+                    if (!heap.hasArray() || heap.isDirect() || !direct.isDirect()) {
+                        return "Wrong kind of buffer";
+                    }
+                    if (heap.capacity() < 1000 || heap.position() != 0 || heap.limit() != heap.capacity()) {
+                        return "Wrong heap buffer " + heap;
+                    }
+                    if (direct.capacity() < 1000 || direct.position() != 0 || direct.limit() != direct.capacity()) {
+                        return "Wrong direct buffer " + direct;
+                    }
+                    return "OK";
+                } finally {
+                    this.pool.release(heap);
+                    this.pool.release(direct);
+                }
+            }
+
+            @GET
+            @Path("intercepted")
+            public final String intercepted() {
+                return "pooled entity";
+            }
+        }
+
+        public static final class UpperCaseInterceptor implements WriterInterceptor {
+
+            @Override
+            public final void aroundWriteTo(final WriterInterceptorContext context)
+                    throws IOException, WebApplicationException {
+                final OutputStream original = context.getOutputStream();
+                final ByteArrayOutputStream entity = new ByteArrayOutputStream();
+                context.setOutputStream(entity);
+                context.proceed();
+                final BufferPool pool = context.getBufferPool();
+                final ByteBuffer buffer = pool.acquire(entity.size());
+                try {
+                    for (final byte b : entity.toByteArray()) {
+                        buffer.put((byte) Character.toUpperCase(b));
+                    }
+                    original.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                } finally {
+                    pool.release(buffer);
+                }
+                context.setOutputStream(original);
+            }
+        }
+    }
+}
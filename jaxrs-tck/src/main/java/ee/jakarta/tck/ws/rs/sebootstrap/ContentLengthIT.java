@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+/**
+ * Compliance Test for the {@code Content-Length} header of responses whose entity length is not set by the resource on a
+ * Java SE Bootstrap instance.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 5, unit = MINUTES)
+public final class ContentLengthIT {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private static final String GREETING = "Hello, World!";
+
+    private static final int BLOB_LENGTH = 100 * BUFFER_SIZE;
+
+    /**
+     * Verifies that a small entity of unknown length is buffered and sent with a {@code Content-Length} header instead of
+     * chunked transfer coding.
+     */
+    @Test
+    public final void shouldSetContentLengthOfSmallEntity() {
+        // when
+        final Response response = ContentLengthIT.application.target().path("greeting").request().get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.OK.getStatusCode()));
+        assertThat(response.getLength(), is(GREETING.length()));
+        assertThat(response.getHeaderString("Transfer-Encoding"), not(containsString("chunked")));
+        assertThat(response.readEntity(String.class), is(GREETING));
+    }
+
+    /**
+     * Verifies that the length returned by {@link MessageBodyWriter#getContentLength} is sent as {@code Content-Length}
+     * header, even if the entity exceeds the buffer.
+     */
+    @Test
+    public final void shouldHonourContentLengthOfWriter() {
+        // when
+        final Response response = ContentLengthIT.application.target().path("blob").request().get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.OK.getStatusCode()));
+        assertThat(response.getLength(), is(BLOB_LENGTH));
+        assertThat(response.getHeaderString("Transfer-Encoding"), not(containsString("chunked")));
+        assertThat(response.readEntity(byte[].class).length, is(BLOB_LENGTH));
+    }
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws InterruptedException, ExecutionException {
+        ContentLengthIT.application = BootstrappedApplication.start(new LengthApplication(), "application/length");
+    }
+
+    @AfterAll
+    static void stopInstance() throws InterruptedException, ExecutionException {
+        ContentLengthIT.application.stop();
+    }
+
+    public static final class Greeting {
+    }
+
+    public static final class Blob {
+    }
+
+    @ApplicationPath("application")
+    public static final class LengthApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            final Set<Class<?>> classes = new HashSet<>();
+            classes.add(LengthResource.class);
+            classes.add(GreetingWriter.class);
+            classes.add(BlobWriter.class);
+            return classes;
+        }
+
+        @Override
+        public final Map<String, Object> getProperties() {
+            return Collections.singletonMap(MessageBodyWriter.BUFFER_SIZE_PROPERTY, BUFFER_SIZE);
+        }
+
+        @Path("length")
+        public static final class LengthResource {
+
+            @GET
+            @Path("greeting")
+            @Produces(MediaType.TEXT_PLAIN)
+            public final Greeting greeting() {
+                return new Greeting();
+            }
+
+            @GET
+            @Path("blob")
+            @Produces(MediaType.APPLICATION_OCTET_STREAM)
+            public final Blob blob() {
+                return new Blob();
+            }
+        }
+
+        /**
+         * Writer not knowing the length of the entity in advance.
+         */
+        @Produces(MediaType.TEXT_PLAIN)
+        public static final class GreetingWriter implements MessageBodyWriter<Greeting> {
+
+            @Override
+            public final boolean isWriteable(final Class<?> type, final Type genericType,
+                    final Annotation[] annotations, final MediaType mediaType) {
+                return type == Greeting.class;
+            }
+
+            @Override
+            public final void writeTo(final Greeting greeting, final Class<?> type, final Type genericType,
+                    final Annotation[] annotations, final MediaType mediaType,
+                    final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
+                    throws IOException, WebApplicationException {
+                entityStream.write(GREETING.getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+
+        /**
+         * Writer knowing the length of an entity exceeding the buffer in advance.
+         */
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public static final class BlobWriter implements MessageBodyWriter<Blob> {
+
+            @Override
+            public final boolean isWriteable(final Class<?> type, final Type genericType,
+                    final Annotation[] annotations, final MediaType mediaType) {
+                return type == Blob.class;
+            }
+
+            @Override
+            public final OptionalLong getContentLength(final Blob blob, final Class<?> type, final Type genericType,
+                    final Annotation[] annotations, final MediaType mediaType) {
+                return OptionalLong.of(BLOB_LENGTH);
+            }
+
+            @Override
+            public final void writeTo(final Blob blob, final Class<?> type, final Type genericType,
+                    final Annotation[] annotations, final MediaType mediaType,
+                    final MultivaluedMap<String, Object> httpHeaders, final OutputStream entityStream)
+                    throws IOException, WebApplicationException {
+                final byte[] chunk = new byte[BUFFER_SIZE];
+                for (int i = 0; i < BLOB_LENGTH / BUFFER_SIZE; i++) {
+                    entityStream.write(chunk);
+                }
+            }
+        }
+    }
+}
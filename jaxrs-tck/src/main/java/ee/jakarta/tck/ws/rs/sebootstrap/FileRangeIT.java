@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Compliance Test for range requests answered by the pre-packaged entity provider for {@link java.nio.file.Path} on a
+ * Java SE Bootstrap instance.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 5, unit = MINUTES)
+public final class FileRangeIT {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+    /**
+     * Verifies that a request without {@code Range} header receives the complete file along with validators.
+     */
+    @Test
+    public final void shouldSendCompleteFileWithValidators() {
+        // when
+        final Response response = FileRangeIT.application.target().request().get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.OK.getStatusCode()));
+        assertThat(response.getLength(), is(CONTENT.length()));
+        assertThat(response.getEntityTag(), is(notNullValue()));
+        assertThat(response.getLastModified(), is(notNullValue()));
+        assertThat(response.getHeaderString("Accept-Ranges"), is("bytes"));
+        assertThat(response.readEntity(String.class), is(CONTENT));
+    }
+
+    /**
+     * Verifies that a single satisfiable range is answered with partial content.
+     */
+    @Test
+    public final void shouldSendSingleRange() {
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=10-15").get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.PARTIAL_CONTENT.getStatusCode()));
+        assertThat(response.getHeaderString("Content-Range"), is("bytes 10-15/" + CONTENT.length()));
+        assertThat(response.readEntity(String.class), is("abcdef"));
+    }
+
+    /**
+     * Verifies that a suffix range is answered with the last bytes of the file.
+     */
+    @Test
+    public final void shouldSendSuffixRange() {
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=-4").get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.PARTIAL_CONTENT.getStatusCode()));
+        assertThat(response.readEntity(String.class), is("wxyz"));
+    }
+
+    /**
+     * Verifies that several ranges are answered with a {@code multipart/byteranges} entity.
+     */
+    @Test
+    public final void shouldSendMultipleRangesAsByteranges() {
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=0-1,30-31").get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.PARTIAL_CONTENT.getStatusCode()));
+        assertThat(response.getMediaType().isCompatible(MediaType.MULTIPART_BYTERANGES_TYPE), is(true));
+        final String entity = response.readEntity(String.class);
+        assertThat(entity.contains("Content-Range: bytes 0-1/" + CONTENT.length()), is(true));
+        assertThat(entity.contains("Content-Range: bytes 30-31/" + CONTENT.length()), is(true));
+    }
+
+    /**
+     * Verifies that an unsatisfiable range is answered with status 416 and the length of the file.
+     */
+    @Test
+    public final void shouldRejectUnsatisfiableRange() {
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=100-200").get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE.getStatusCode()));
+        assertThat(response.getHeaderString("Content-Range"), is("bytes */" + CONTENT.length()));
+        response.close();
+    }
+
+    /**
+     * Verifies that the complete file is sent if the {@code If-Range} header does not match the entity tag.
+     */
+    @Test
+    public final void shouldSendCompleteFileIfRangeDoesNotMatch() {
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=10-15")
+                .header("If-Range", new EntityTag("outdated")).get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.OK.getStatusCode()));
+        assertThat(response.readEntity(String.class), is(CONTENT));
+    }
+
+    /**
+     * Verifies that the range is sent if the {@code If-Range} header matches the entity tag.
+     */
+    @Test
+    public final void shouldSendRangeIfRangeMatches() {
+        // given
+        final Response full = FileRangeIT.application.target().request().head();
+        final EntityTag tag = full.getEntityTag();
+        full.close();
+
+        // when
+        final Response response = FileRangeIT.application.target().request().header("Range", "bytes=0-3")
+                .header("If-Range", tag).get();
+
+        // then
+        assertThat(response.getStatus(), is(Response.Status.PARTIAL_CONTENT.getStatusCode()));
+        assertThat(response.readEntity(String.class), is("0123"));
+    }
+
+    private static java.nio.file.Path file;
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws IOException, InterruptedException, ExecutionException {
+        FileRangeIT.file = Files.createTempFile("FileRangeIT", ".txt");
+        Files.write(FileRangeIT.file, CONTENT.getBytes(StandardCharsets.US_ASCII));
+        FileRangeIT.application = BootstrappedApplication.start(new FileApplication(), "application/file");
+    }
+
+    @AfterAll
+    static void stopInstance() throws IOException, InterruptedException, ExecutionException {
+        FileRangeIT.application.stop();
+        Files.deleteIfExists(FileRangeIT.file);
+    }
+
+    @ApplicationPath("application")
+    public static final class FileApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            return Collections.<Class<?>>singleton(FileResource.class);
+        }
+
+        @Path("file")
+        public static final class FileResource {
+
+            @GET
+            @Produces(MediaType.TEXT_PLAIN)
+            public final Response file() throws IOException {
+                return Response.file(FileRangeIT.file).build();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Compliance Test for the pre-packaged entity providers for streams of JSON texts on a Java SE Bootstrap instance.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 5, unit = MINUTES)
+public final class JsonStreamIT {
+
+    private static final String RECORD_SEPARATOR = "\u001E";
+
+    /**
+     * Verifies that a {@code Stream} is written as newline-delimited JSON, one element per line.
+     */
+    @Test
+    public final void shouldWriteNewlineDelimitedJson() {
+        // when
+        final String entity = JsonStreamIT.application.target().path("ndjson").request(MediaType.APPLICATION_NDJSON)
+                .get(String.class);
+
+        // then
+        final String[] lines = entity.split("\n", -1);
+        assertThat(lines.length, is(4));
+        for (int i = 0; i < 3; i++) {
+            assertThat(lines[i], startsWith("{"));
+            assertThat(lines[i], endsWith("}"));
+        }
+        assertThat(lines[3], is(""));
+    }
+
+    /**
+     * Verifies that a {@code Stream} is written as a JSON text sequence, each element preceded by a record separator
+     * and followed by a line feed.
+     */
+    @Test
+    public final void shouldWriteJsonTextSequence() {
+        // when
+        final String entity = JsonStreamIT.application.target().path("json-seq").request(MediaType.APPLICATION_JSON_SEQ)
+                .get(String.class);
+
+        // then
+        final String[] records = entity.split("\n", -1);
+        assertThat(records.length, is(4));
+        for (int i = 0; i < 3; i++) {
+            assertThat(records[i], startsWith(RECORD_SEPARATOR + "{"));
+            assertThat(records[i], endsWith("}"));
+            assertThat(records[i].lastIndexOf(RECORD_SEPARATOR), is(0));
+        }
+        assertThat(records[3], is(""));
+    }
+
+    /**
+     * Verifies that newline-delimited JSON is read back as a {@code Stream} of the elements.
+     */
+    @Test
+    public final void shouldReadNewlineDelimitedJsonAsStream() {
+        // when
+        final List<String> names;
+        try (Stream<Item> items = JsonStreamIT.application.target().path("ndjson").request(MediaType.APPLICATION_NDJSON)
+                .get(new GenericType<Stream<Item>>() { })) {
+            names = items.map(Item::getName).collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(names, contains("first", "second", "third"));
+    }
+
+    /**
+     * Verifies that a JSON text sequence is read back as a {@code Stream} of the elements.
+     */
+    @Test
+    public final void shouldReadJsonTextSequenceAsStream() {
+        // when
+        final List<String> names;
+        try (Stream<Item> items = JsonStreamIT.application.target().path("json-seq")
+                .request(MediaType.APPLICATION_JSON_SEQ).get(new GenericType<Stream<Item>>() { })) {
+            names = items.map(Item::getName).collect(Collectors.toList());
+        }
+
+        // then
+        assertThat(names, contains("first", "second", "third"));
+    }
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws InterruptedException, ExecutionException {
+        JsonStreamIT.application = BootstrappedApplication.start(new StreamApplication(), "application/items");
+    }
+
+    @AfterAll
+    static void stopInstance() throws InterruptedException, ExecutionException {
+        JsonStreamIT.application.stop();
+    }
+
+    public static final class Item {
+
+        private String name;
+
+        public Item() {
+        }
+
+        public Item(final String name) {
+            this.name = name;
+        }
+
+        public final String getName() {
+            return this.name;
+        }
+
+        public final void setName(final String name) {
+            this.name = name;
+        }
+    }
+
+    @ApplicationPath("application")
+    public static final class StreamApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            return Collections.singleton(ItemResource.class);
+        }
+
+        @Path("items")
+        public static final class ItemResource {
+
+            @GET
+            @Path("ndjson")
+            @Produces(MediaType.APPLICATION_NDJSON)
+            public final Stream<Item> ndjson() {
+                return items();
+            }
+
+            @GET
+            @Path("json-seq")
+            @Produces(MediaType.APPLICATION_JSON_SEQ)
+            public final Stream<Item> jsonSeq() {
+                return items();
+            }
+
+            private static Stream<Item> items() {
+                return Stream.of(new Item("first"), new Item("second"), new Item("third"));
+            }
+        }
+    }
+}
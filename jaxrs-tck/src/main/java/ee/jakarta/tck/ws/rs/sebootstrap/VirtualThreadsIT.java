@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.sebootstrap;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import jakarta.ws.rs.ApplicationPath;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Application;
+
+/**
+ * Scale test of asynchronous client invocations executed on virtual threads, using a Java SE Bootstrap instance as the
+ * server.
+ *
+ * @since 4.0
+ */
+@Timeout(value = 10, unit = MINUTES)
+public final class VirtualThreadsIT {
+
+    private static final int CONCURRENT_CALLS = 10_000;
+
+    /**
+     * Verifies that a client with virtual threads enabled completes a large number of concurrent invocations made via
+     * {@link jakarta.ws.rs.client.CompletionStageRxInvoker}.
+     *
+     * @throws ExecutionException   if an invocation failed
+     * @throws InterruptedException if the test took much longer than usually
+     *                              expected
+     */
+    @Test
+    public final void shouldCompleteConcurrentRxInvocations() throws InterruptedException, ExecutionException {
+        // given
+        final WebTarget target = VirtualThreadsIT.application.target();
+
+        // when
+        final List<CompletableFuture<Integer>> responses = new ArrayList<>(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            responses.add(target.queryParam("value", i).request().rx().get(Integer.class).toCompletableFuture());
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).get();
+
+        // then
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            assertThat(responses.get(i).get(), is(i));
+        }
+    }
+
+    /**
+     * Verifies that a client with virtual threads enabled completes a large number of concurrent invocations made via
+     * {@link jakarta.ws.rs.client.AsyncInvoker}.
+     *
+     * @throws ExecutionException   if an invocation failed
+     * @throws InterruptedException if the test took much longer than usually
+     *                              expected
+     */
+    @Test
+    public final void shouldCompleteConcurrentAsyncInvocations() throws InterruptedException, ExecutionException {
+        // given
+        final WebTarget target = VirtualThreadsIT.application.target();
+
+        // when
+        final List<Future<Integer>> responses = new ArrayList<>(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            responses.add(target.queryParam("value", i).request().async().get(Integer.class));
+        }
+
+        // then
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            assertThat(responses.get(i).get(), is(i));
+        }
+    }
+
+    private static BootstrappedApplication application;
+
+    @BeforeAll
+    static void startInstance() throws InterruptedException, ExecutionException {
+        VirtualThreadsIT.application = BootstrappedApplication.start(new EchoApplication(),
+                ClientBuilder.newBuilder().virtualThreads(true), "application/echo");
+    }
+
+    @AfterAll
+    static void stopInstance() throws InterruptedException, ExecutionException {
+        VirtualThreadsIT.application.stop();
+    }
+
+    @ApplicationPath("application")
+    public static final class EchoApplication extends Application {
+
+        @Override
+        public final Set<Class<?>> getClasses() {
+            return Collections.<Class<?>>singleton(EchoResource.class);
+        }
+
+        @Path("echo")
+        public static final class EchoResource {
+
+            @GET
+            public final int echo(@QueryParam("value") final int value) {
+                return value;
+            }
+        }
+    }
+}
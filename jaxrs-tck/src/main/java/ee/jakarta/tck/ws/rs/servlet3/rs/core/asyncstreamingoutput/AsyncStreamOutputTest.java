@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.servlet3.rs.core.asyncstreamingoutput;
+
+import java.io.IOException;
+
+import ee.jakarta.tck.ws.rs.common.impl.ChunkedAsyncStreamingOutput;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.AsyncStreamingOutput;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+@Path(value = "/AsyncStreamOutputTest")
+public class AsyncStreamOutputTest {
+
+  public static final String CHUNK = "AsyncStreamingOutputTest;";
+
+  public static final int CHUNKS = 10000;
+
+  @GET
+  @Path("/Test1")
+  public AsyncStreamingOutput asyncStreamingOutput() {
+    return new ChunkedAsyncStreamingOutput("AsyncStreamingOutputTest1", 1);
+  }
+
+  @GET
+  @Path("/Chunks")
+  public Response chunks() {
+    return Response.ok(new ChunkedAsyncStreamingOutput(CHUNK, CHUNKS))
+        .header(HttpHeaders.CONTENT_LENGTH, CHUNK.length() * CHUNKS).build();
+  }
+
+  @GET
+  @Path("/Test2")
+  public AsyncStreamingOutput test2() {
+    return new ChunkedAsyncStreamingOutput("", 0,
+        new WebApplicationException(404));
+  }
+
+  @GET
+  @Path("IOExceptionTest")
+  public Response testIOException() {
+    AsyncStreamingOutput aso = new ChunkedAsyncStreamingOutput("", 0,
+        new IOException("TckIOExceptionTest"));
+    Response response = Response.ok(aso).build();
+    return response;
+  }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.ws.rs.servlet3.rs.core.asyncstreamingoutput;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit5.ArquillianExtension;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import jakarta.ws.rs.core.Response.Status;
+import ee.jakarta.tck.ws.rs.common.JAXRSCommonClient;
+import ee.jakarta.tck.ws.rs.common.impl.ChunkedAsyncStreamingOutput;
+import ee.jakarta.tck.ws.rs.lib.util.TestUtil;
+
+/*
+ * @class.setup_props: webServerHost;
+ *                     webServerPort;
+ *                     ts_home;
+ */
+@ExtendWith(ArquillianExtension.class)
+public class JAXRSClientIT extends JAXRSCommonClient {
+  private static final long serialVersionUID = 1L;
+
+  public static final String _root = "/jaxrs_ee_core_asyncstreamoutput/AsyncStreamOutputTest";
+
+  public JAXRSClientIT() {
+    setup();
+    setContextRoot(_root);
+  }
+
+  @Deployment(testable = false)
+  public static WebArchive createDeployment() throws IOException {
+
+    InputStream inStream = JAXRSClientIT.class.getClassLoader().getResourceAsStream("ee/jakarta/tck/ws/rs/servlet3/rs/core/asyncstreamingoutput/web.xml.template");
+    // Replace the servlet_adaptor in web.xml.template with the System variable set as servlet adaptor
+    String webXml = editWebXmlString(inStream);
+
+    WebArchive archive = ShrinkWrap.create(WebArchive.class, "jaxrs_ee_core_asyncstreamoutput.war");
+    archive.addClasses(TSAppConfig.class, AsyncStreamOutputTest.class, ChunkedAsyncStreamingOutput.class);
+    archive.setWebXML(new StringAsset(webXml));
+
+    return archive;
+  }
+
+  @BeforeEach
+  void logStartTest(TestInfo testInfo) {
+    TestUtil.logMsg("STARTING TEST : "+testInfo.getDisplayName());
+  }
+
+  @AfterEach
+  void logFinishTest(TestInfo testInfo) {
+    TestUtil.logMsg("FINISHED TEST : "+testInfo.getDisplayName());
+  }
+
+  /*
+   * @testName: writeTest
+   * 
+   * @assertion_ids: JAXRS:SPEC:139;
+   * 
+   * @test_Strategy: Client send a request. Verify that the chunk published by
+   * an AsyncStreamingOutput is written.
+   */
+  @Test
+  public void writeTest() throws Fault {
+    setProperty(REQUEST, buildRequest(GET, "Test1"));
+    setProperty(SEARCH_STRING, "AsyncStreamingOutputTest1");
+    invoke();
+  }
+
+  /*
+   * @testName: writeChunksOnDemandTest
+   * 
+   * @assertion_ids: JAXRS:SPEC:139;
+   * 
+   * @test_Strategy: Client send a request. Verify that all chunks published by
+   * an AsyncStreamingOutput reusing a single buffer are written completely,
+   * i.e. that the container requests the next chunk only after the previous
+   * one has been written.
+   */
+  @Test
+  public void writeChunksOnDemandTest() throws Fault {
+    setProperty(REQUEST, buildRequest(GET, "Chunks"));
+    setProperty(Property.EXPECTED_HEADERS, "Content-Length: "
+        + AsyncStreamOutputTest.CHUNK.length() * AsyncStreamOutputTest.CHUNKS);
+    setProperty(SEARCH_STRING, AsyncStreamOutputTest.CHUNK
+        + AsyncStreamOutputTest.CHUNK + AsyncStreamOutputTest.CHUNK);
+    invoke();
+  }
+
+  /*
+   * @testName: writeIOExceptionTest
+   * 
+   * @assertion_ids: JAXRS:SPEC:139;
+   * 
+   * @test_Strategy: Client send a request. Verify that an IOException
+   * signalled by an AsyncStreamingOutput before any chunk results in
+   * 500 - Internal Server Error.
+   */
+  @Test
+  public void writeIOExceptionTest() throws Fault {
+    setProperty(REQUEST, buildRequest(GET, "IOExceptionTest"));
+    setProperty(STATUS_CODE, getStatusCode(Status.INTERNAL_SERVER_ERROR));
+    invoke();
+  }
+
+  /*
+   * @testName: writeWebApplicationExceptionTest
+   * 
+   * @assertion_ids: JAXRS:SPEC:139;
+   * 
+   * @test_Strategy: Client send a request. Verify that a
+   * WebApplicationException signalled by an AsyncStreamingOutput before any
+   * chunk results in the response of the exception.
+   */
+  @Test
+  public void writeWebApplicationExceptionTest() throws Fault {
+    setProperty(REQUEST, buildRequest(GET, "Test2"));
+    setProperty(STATUS_CODE, getStatusCode(Status.NOT_FOUND));
+    invoke();
+  }
+}
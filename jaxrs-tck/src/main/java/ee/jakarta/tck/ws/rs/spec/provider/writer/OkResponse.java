@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -140,6 +140,11 @@ public class OkResponse extends Response {
     return r.bufferEntity();
   }
 
+  @Override
+  public boolean bufferEntity(long memoryThreshold) {
+    return r.bufferEntity(memoryThreshold);
+  }
+
   @Override
   public void close() {
     r.close();